@@ -0,0 +1,476 @@
+package sim;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+public class ArchiveQuery {
+
+	// amount of records read from a column at a time.
+	private static final int blockSize = 4096;
+
+	/**
+	 * Value stored for each team in each season of an archive.
+	 */
+	public enum Column {
+		/**
+		 * number of the season in the archive.
+		 */
+		SEASON(null, true) {
+			@Override
+			public double value(ResultArchive archive, int season, int team) {
+				return season;
+			}
+		},
+		/**
+		 * position of the team in the topology.
+		 */
+		TEAM(null, false) {
+			@Override
+			public double value(ResultArchive archive, int season, int team) {
+				return team;
+			}
+		},
+		/**
+		 * number of the simulation the season belongs to.
+		 */
+		REPLICATE(null, true) {
+			@Override
+			public double value(ResultArchive archive, int season, int team) {
+				return archive.replicate(season);
+			}
+		},
+		/**
+		 * year the season started.
+		 */
+		YEAR(null, true) {
+			@Override
+			public double value(ResultArchive archive, int season, int team) {
+				return archive.year(season);
+			}
+		},
+		/**
+		 * points at the end of the regular season.
+		 */
+		POINTS(ResultArchive.Field.POINTS),
+		/**
+		 * wins at the end of the regular season.
+		 */
+		WINS(ResultArchive.Field.WINS),
+		/**
+		 * regulation wins at the end of the regular season.
+		 */
+		REGULATION_WINS(ResultArchive.Field.REGULATION_WINS),
+		/**
+		 * losses at the end of the regular season.
+		 */
+		LOSSES(ResultArchive.Field.LOSSES),
+		/**
+		 * overtime losses at the end of the regular season.
+		 */
+		OVERTIME_LOSSES(ResultArchive.Field.OVERTIME_LOSSES),
+		/**
+		 * seed in the whole league. 1 is the Presidents' Trophy winner.
+		 */
+		LEAGUE_SEED(ResultArchive.Field.LEAGUE_SEED),
+		/**
+		 * seed in the conference.
+		 */
+		CONFERENCE_SEED(ResultArchive.Field.CONFERENCE_SEED),
+		/**
+		 * seed in the division.
+		 */
+		DIVISION_SEED(ResultArchive.Field.DIVISION_SEED),
+		/**
+		 * season result in the same way as Team.seasonResult. 5 is a Stanley Cup.
+		 */
+		SEASON_RESULT(ResultArchive.Field.SEASON_RESULT),
+		/**
+		 * 1 if the team made the playoffs, 0 otherwise.
+		 */
+		PLAYOFFS(ResultArchive.Field.PLAYOFFS),
+		/**
+		 * skill level at the end of the season.
+		 */
+		SKILL(ResultArchive.Field.SKILL),
+		/**
+		 * skill level at the start of the season.
+		 */
+		PRESEASON_SKILL(ResultArchive.Field.PRESEASON_SKILL);
+
+		// where the column is stored, or null if it comes from the season or team.
+		private final ResultArchive.Field field;
+		// whether the value is the same for every team in a season.
+		private final boolean perSeason;
+
+		private Column(ResultArchive.Field field) {
+			this(field, false);
+		}
+
+		private Column(ResultArchive.Field field, boolean perSeason) {
+			this.field = field;
+			this.perSeason = perSeason;
+		}
+
+		/**
+		 * Value of this column for a team in a season.
+		 * 
+		 * @param archive - archive to read.
+		 * @param season  - number of the season starting at 0.
+		 * @param team    - position of the team in the topology.
+		 * @throws IndexOutOfBoundsException - throws exception if the archive has no
+		 *                                   such season or team.
+		 */
+		public double value(ResultArchive archive, int season, int team) throws IndexOutOfBoundsException {
+			return archive.get(field, season, team);
+		}
+
+		/**
+		 * Reads this column for records in a row in the same way as
+		 * ResultArchive.read. A column that isn't stored is only looked up once per
+		 * season if it is the same for every team.
+		 */
+		protected void read(ResultArchive archive, long first, int length, double[] into) {
+			if (field != null) {
+				archive.read(field, first, length, into);
+				return;
+			}
+			int teams = archive.amountOfTeams();
+			int season = (int) (first / teams);
+			int team = (int) (first % teams);
+			double value = 0;
+			for (int i = 0; i < length; i++) {
+				if (i == 0 || team == 0 || !perSeason) {
+					value = value(archive, season, team);
+				}
+				into[i] = value;
+				if (++team == teams) {
+					team = 0;
+					season++;
+				}
+			}
+		}
+	}
+
+	private final ResultArchive archive;
+	private final Column[] columns;
+	private final double[] min;
+	private final double[] max;
+	private final int firstSeason;
+	private final int lastSeason;
+	private final int firstTeam;
+	private final int lastTeam;
+
+	/**
+	 * Query over every team in every season of an archive. Seasons added to the
+	 * archive later are included when the query is run.
+	 * 
+	 * @param archive - archive to query.
+	 */
+	public ArchiveQuery(ResultArchive archive) {
+		this(archive, new Column[0], new double[0], new double[0], 0, Integer.MAX_VALUE, 0,
+				archive.amountOfTeams());
+	}
+
+	private ArchiveQuery(ResultArchive archive, Column[] columns, double[] min, double[] max, int firstSeason,
+			int lastSeason, int firstTeam, int lastTeam) {
+		this.archive = archive;
+		this.columns = columns;
+		this.min = min;
+		this.max = max;
+		this.firstSeason = firstSeason;
+		this.lastSeason = lastSeason;
+		this.firstTeam = firstTeam;
+		this.lastTeam = lastTeam;
+	}
+
+	/**
+	 * Query of only the records where a column has a certain value.
+	 * 
+	 * @param column - column to check.
+	 * @param value  - value the column needs to have.
+	 * @return new query with the extra condition.
+	 */
+	public ArchiveQuery where(Column column, double value) {
+		return whereBetween(column, value, value);
+	}
+
+	/**
+	 * Query of only the records where a column is between two values. Conditions
+	 * on the season only change which records are scanned, and conditions on the
+	 * team are checked before any column is read.
+	 * 
+	 * @param column - column to check.
+	 * @param min    - lowest value allowed.
+	 * @param max    - highest value allowed.
+	 * @return new query with the extra condition.
+	 */
+	public ArchiveQuery whereBetween(Column column, double min, double max) {
+		if (column == Column.SEASON) {
+			return new ArchiveQuery(archive, columns, this.min, this.max,
+					Math.max(firstSeason, (int) Math.ceil(Math.max(min, 0))),
+					(int) Math.min(lastSeason, Math.floor(Math.min(max, Integer.MAX_VALUE - 1)) + 1), firstTeam,
+					lastTeam);
+		}
+		if (column == Column.TEAM) {
+			return new ArchiveQuery(archive, columns, this.min, this.max, firstSeason, lastSeason,
+					Math.max(firstTeam, (int) Math.ceil(Math.max(min, 0))),
+					(int) Math.min(lastTeam, Math.floor(Math.min(max, Integer.MAX_VALUE - 1)) + 1));
+		}
+		Column[] newColumns = Arrays.copyOf(columns, columns.length + 1);
+		double[] newMin = Arrays.copyOf(this.min, columns.length + 1);
+		double[] newMax = Arrays.copyOf(this.max, columns.length + 1);
+		newColumns[columns.length] = column;
+		newMin[columns.length] = min;
+		newMax[columns.length] = max;
+		return new ArchiveQuery(archive, newColumns, newMin, newMax, firstSeason, lastSeason, firstTeam, lastTeam);
+	}
+
+	/**
+	 * Records of one block and what has been added up from the blocks scanned so
+	 * far by one thread.
+	 */
+	private final class Scan {
+		private final double[] values = new double[blockSize];
+		// positions in the block of the records that match the query.
+		private final int[] selected = new int[blockSize];
+		private final long[] counts;
+		// first year, last year and amount of matches of each team in each
+		// replicate, three values at a time for replicate * teams + team.
+		private int[] spans = new int[0];
+		private long first;
+		private int length;
+		private int amount;
+		private long count;
+		private long hits;
+		private double sum;
+
+		private Scan(int buckets) {
+			counts = new long[buckets];
+		}
+
+		/**
+		 * Finds the records of a block that match the query. Each condition reads its
+		 * whole column for the block and narrows down the records left from the one
+		 * before.
+		 */
+		private void select(long first, int length) {
+			this.first = first;
+			this.length = length;
+			int teams = archive.amountOfTeams();
+			int team = (int) (first % teams);
+			amount = 0;
+			for (int i = 0; i < length; i++) {
+				if (team >= firstTeam && team < lastTeam) {
+					selected[amount++] = i;
+				}
+				if (++team == teams) {
+					team = 0;
+				}
+			}
+			for (int c = 0; c < columns.length && amount > 0; c++) {
+				columns[c].read(archive, first, length, values);
+				double low = min[c];
+				double high = max[c];
+				int kept = 0;
+				for (int k = 0; k < amount; k++) {
+					double value = values[selected[k]];
+					if (value >= low && value <= high) {
+						selected[kept++] = selected[k];
+					}
+				}
+				amount = kept;
+			}
+			count += amount;
+		}
+
+		/**
+		 * reads a column for the block if any record of it matches.
+		 */
+		private boolean read(Column column) {
+			if (amount == 0) {
+				return false;
+			}
+			column.read(archive, first, length, values);
+			return true;
+		}
+
+		private void sum(Column column) {
+			if (read(column)) {
+				for (int k = 0; k < amount; k++) {
+					sum += values[selected[k]];
+				}
+			}
+		}
+
+		private void hits(Column column, double value) {
+			if (read(column)) {
+				for (int k = 0; k < amount; k++) {
+					if (values[selected[k]] == value) {
+						hits++;
+					}
+				}
+			}
+		}
+
+		private void histogram(Column column, int min) {
+			if (read(column)) {
+				for (int k = 0; k < amount; k++) {
+					int value = (int) values[selected[k]] - min;
+					if (value >= 0 && value < counts.length) {
+						counts[value]++;
+					}
+				}
+			}
+		}
+
+		private void spans() {
+			int teams = archive.amountOfTeams();
+			for (int k = 0; k < amount; k++) {
+				long record = first + selected[k];
+				int season = (int) (record / teams);
+				int year = archive.year(season);
+				span(archive.replicate(season) * teams + (int) (record % teams), year, year, 1);
+			}
+		}
+
+		/**
+		 * adds matches to the span of a team in a replicate.
+		 */
+		private void span(int key, int firstYear, int lastYear, int matches) {
+			int at = key * 3;
+			if (at >= spans.length) {
+				spans = Arrays.copyOf(spans, Math.max(at + 3, spans.length * 2));
+			}
+			if (spans[at + 2] == 0) {
+				spans[at] = firstYear;
+				spans[at + 1] = lastYear;
+			} else {
+				spans[at] = Math.min(spans[at], firstYear);
+				spans[at + 1] = Math.max(spans[at + 1], lastYear);
+			}
+			spans[at + 2] += matches;
+		}
+
+		private void merge(Scan other) {
+			count += other.count;
+			hits += other.hits;
+			sum += other.sum;
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] += other.counts[i];
+			}
+			for (int at = 0; at < other.spans.length; at += 3) {
+				if (other.spans[at + 2] > 0) {
+					span(at / 3, other.spans[at], other.spans[at + 1], other.spans[at + 2]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Scans the seasons of the query in blocks of records split up between every
+	 * processor.
+	 * 
+	 * @param buckets - size of the histogram to fill.
+	 * @param action  - what to do with the matching records of each block.
+	 */
+	private Scan scan(int buckets, Consumer<Scan> action) {
+		int teams = archive.amountOfTeams();
+		long start = (long) firstSeason * teams;
+		long end = (long) Math.max(firstSeason, Math.min(lastSeason, archive.amountOfSeasons())) * teams;
+		int blocks = (int) ((end - start + blockSize - 1) / blockSize);
+		return IntStream.range(0, blocks).parallel().collect(() -> new Scan(buckets), (scan, block) -> {
+			long first = start + (long) block * blockSize;
+			scan.select(first, (int) Math.min(blockSize, end - first));
+			action.accept(scan);
+		}, Scan::merge);
+	}
+
+	/**
+	 * amount of records that match the query.
+	 */
+	public long count() {
+		return scan(0, scan -> {
+		}).count;
+	}
+
+	/**
+	 * Total of a column over the records that match the query.
+	 * 
+	 * @param column - column to add up.
+	 */
+	public double sum(Column column) {
+		return scan(0, scan -> scan.sum(column)).sum;
+	}
+
+	/**
+	 * Average of a column over the records that match the query. Returns NaN if no
+	 * record matches.
+	 * 
+	 * @param column - column to average.
+	 */
+	public double average(Column column) {
+		Scan total = scan(0, scan -> scan.sum(column));
+		return total.sum / total.count;
+	}
+
+	/**
+	 * Fraction of the records that match the query that also have a certain value
+	 * in a column. For example, the records of every 8th seed in a conference and
+	 * the value 5 for the season result gives how often the 8th seed wins the
+	 * Stanley Cup. Returns NaN if no record matches.
+	 * 
+	 * @param column - column to check.
+	 * @param value  - value to look for.
+	 */
+	public double rate(Column column, double value) {
+		Scan total = scan(0, scan -> scan.hits(column, value));
+		return (double) total.hits / total.count;
+	}
+
+	/**
+	 * Counts how often each whole number value of a column comes up in the records
+	 * that match the query.
+	 * 
+	 * @param column - column to count.
+	 * @param min    - lowest value to count.
+	 * @param max    - highest value to count.
+	 * @return amount of each value, with the amount of min at 0. Values outside of
+	 *         the range are not counted.
+	 */
+	public long[] histogram(Column column, int min, int max) {
+		return scan(max - min + 1, scan -> scan.histogram(column, min)).counts;
+	}
+
+	/**
+	 * Average amount of years between records that match the query for each team.
+	 * Only records of the same replicate are compared with each other. For
+	 * example, every record with a season result of 5 gives the average amount of
+	 * seasons between Stanley Cups.
+	 * 
+	 * @return average gap for each position in the topology. NaN if a team never
+	 *         matched twice in the same replicate.
+	 */
+	public double[] averageSeasonsBetween() {
+		int teams = archive.amountOfTeams();
+		// the gaps in between add up to the last year minus the first year.
+		long[] years = new long[teams];
+		long[] amountOfGaps = new long[teams];
+		int[] spans = scan(0, Scan::spans).spans;
+		for (int at = 0; at < spans.length; at += 3) {
+			if (spans[at + 2] > 0) {
+				int team = at / 3 % teams;
+				years[team] += spans[at + 1] - spans[at];
+				amountOfGaps[team] += spans[at + 2] - 1;
+			}
+		}
+		double[] gaps = new double[teams];
+		Arrays.fill(gaps, Double.NaN);
+		for (int team = 0; team < teams; team++) {
+			if (amountOfGaps[team] > 0) {
+				gaps[team] = (double) years[team] / amountOfGaps[team];
+			}
+		}
+		return gaps;
+	}
+}
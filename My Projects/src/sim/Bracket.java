@@ -2,7 +2,7 @@ package sim;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.PriorityQueue;
+import java.util.HashSet;
 
 public class Bracket {
 
@@ -104,40 +104,68 @@ public class Bracket {
 	 * simulates an entire round of the playoffs.
 	 */
 	public void simulateRound() {
+		SimulationEvents.PlayoffRoundEvent event = new SimulationEvents.PlayoffRoundEvent();
+		event.begin();
+		int amountOfSeries = rounds.get(roundNumber).size();
 		if (type == 'R') {
 			simRoundReseeding();
 		} else if (type == 'N') {
 			simRoundNoReseeding();
-		} 
+		}
+		if (event.shouldCommit()) {
+			event.round = roundNumber + 1;
+			event.series = amountOfSeries;
+			event.teamsRemaining = teamsRemaining;
+			event.commit();
+		}
 		if (!isOver()) {
 			roundNumber++;
 			nextRound();
 		}
 	}
 
-	private void swap(ArrayList<Team> arr, Team t1, Team t2) {
-		int indHigher = arr.indexOf(t1);
-		int indLower = arr.indexOf(t2);
-		Collections.swap(arr, indHigher, indLower);
-	}
-
+	/**
+	 * Sims every series in the round. The losers go to the end of the list in the
+	 * order they lost, so the teams still remaining keep their seeding order.
+	 */
 	private void simRoundReseeding() {
+		int remainingAtStart = teamsRemaining;
+		HashSet<Team> losers = new HashSet<>();
+		ArrayList<Team> order = new ArrayList<>(teams.size());
 		for (Series ser : rounds.get(roundNumber)) {
 			ser.simSeries();
-			Team loser = ser.loser();
-			teams.remove(loser);
-			teams.add(loser);
+			losers.add(ser.loser());
 			teamsRemaining--;
 		}
+		for (int i = 0; i < remainingAtStart; i++) {
+			if (!losers.contains(teams.get(i))) {
+				order.add(teams.get(i));
+			}
+		}
+		for (int i = remainingAtStart; i < teams.size(); i++) {
+			order.add(teams.get(i));
+		}
+		for (Series ser : rounds.get(roundNumber)) {
+			order.add(ser.loser());
+		}
+		teams = order;
 	}
 
+	/**
+	 * Sims every series in the round. A series is between the same two positions in
+	 * the list as when the round was made, so the winner can take the higher seed's
+	 * position without searching for it.
+	 */
 	private void simRoundNoReseeding() {
+		int optSeedNum = optimalSumOfSeeds(teamsRemaining);
+		int lower = teamsRemaining;
 		for (Series ser : rounds.get(roundNumber)) {
 			ser.simSeries();
 			if (ser.winner() == ser.lowerSeed()) {
-				swap(teams, ser.higherSeed(), ser.lowerSeed());
+				Collections.swap(teams, lower - 1, optSeedNum - lower - 1);
 			}
 			teamsRemaining--;
+			lower--;
 		}
 		for (int i = 0; i < teamsRemaining / 2; i++) {
 			if (teams.get(i).conferenceSeeding() > teams.get(teamsRemaining - i - 1).conferenceSeeding()) {
@@ -0,0 +1,466 @@
+package sim;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.stream.IntStream;
+
+public class Calibration {
+
+	// chance of overtime between two even teams in the regular season.
+	private static final double overtimeBase = .28;
+	// smallest chance given to a result so one upset can't end the fit.
+	private static final double smallestChance = 1e-12;
+	// distance used for each side of a numerical derivative.
+	private static final double derivativeStep = 1e-6;
+
+	private final League league;
+	private final ArrayList<Team> teams;
+	private final HashMap<String, Integer> abbreviations = new HashMap<>();
+	private int[] home = new int[256];
+	private int[] away = new int[256];
+	private boolean[] homeWon = new boolean[256];
+	private boolean[] overtime = new boolean[256];
+	private int amountOfGames;
+	// games each team played in, made again whenever games are added.
+	private int[][] gamesOfTeam;
+	// log of each skill level followed by the log of the root and home advantage.
+	private double[] parameters;
+	private boolean fitModel = true;
+	private int maxIterations = 500;
+
+	/**
+	 * Calibration of the skill levels of every team in a league. Starts from the
+	 * current skill levels and game model of the league.
+	 * 
+	 * @param league - league with every team in the results.
+	 */
+	public Calibration(League league) {
+		this.league = league;
+		teams = new ArrayList<>(league.liveTeams());
+		parameters = new double[teams.size() + 2];
+		for (int i = 0; i < teams.size(); i++) {
+			abbreviations.put(teams.get(i).abbreviation(), i);
+			parameters[i] = Math.log(teams.get(i).trueSkillLevel());
+		}
+		parameters[teams.size()] = Math.log(league.gameModel().root());
+		parameters[teams.size() + 1] = Math.log(league.gameModel().homeAdvantage());
+	}
+
+	/**
+	 * Chooses whether the root and home advantage are fit along with the skill
+	 * levels. They are fit by default.
+	 */
+	public void fitModel(boolean fitModel) {
+		this.fitModel = fitModel;
+	}
+
+	/**
+	 * Sets the most steps the fit will take before stopping.
+	 */
+	public void setMaxIterations(int maxIterations) {
+		this.maxIterations = maxIterations;
+	}
+
+	/**
+	 * Reads game results from a CSV file. Each line is the away team's
+	 * abbreviation, the home team's abbreviation, the away team's goals, the home
+	 * team's goals, and optionally OT or SO if the game went past regulation. A
+	 * shootout is treated as an overtime. Blank lines and lines starting with # are
+	 * skipped, and so is the first other line if it doesn't have goals since it is
+	 * the header.
+	 * 
+	 * @param fileName - path of the CSV file.
+	 * @return amount of games read.
+	 * @throws IOException              - throws exception if the file can't be
+	 *                                  read.
+	 * @throws IllegalArgumentException - throws exception if a line has a team that
+	 *                                  is not in the league or is not a valid
+	 *                                  result.
+	 */
+	public int readResults(String fileName) throws IOException, IllegalArgumentException {
+		int before = amountOfGames;
+		try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
+			String line;
+			int lineNumber = 0;
+			boolean firstResult = true;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				boolean mayBeHeader = firstResult;
+				firstResult = false;
+				String[] fields = line.split(",", -1);
+				if (fields.length < 4) {
+					throw new IllegalArgumentException("Line " + lineNumber + " of " + fileName + " needs 4 values.");
+				}
+				int awayGoals;
+				int homeGoals;
+				try {
+					awayGoals = Integer.parseInt(fields[2].trim());
+					homeGoals = Integer.parseInt(fields[3].trim());
+				} catch (NumberFormatException e) {
+					if (mayBeHeader) {
+						continue;
+					}
+					throw new IllegalArgumentException("Line " + lineNumber + " of " + fileName + " has invalid goals.");
+				}
+				if (awayGoals == homeGoals) {
+					throw new IllegalArgumentException("Line " + lineNumber + " of " + fileName + " is a tie.");
+				}
+				String extra = fields.length > 4 ? fields[4].trim().toUpperCase() : "";
+				addResult(team(fields[0].trim(), lineNumber), team(fields[1].trim(), lineNumber), homeGoals > awayGoals,
+						extra.contains("OT") || extra.contains("SO"));
+			}
+		}
+		return amountOfGames - before;
+	}
+
+	/**
+	 * position of the team with an abbreviation.
+	 */
+	private int team(String abr, int lineNumber) throws IllegalArgumentException {
+		Integer index = abbreviations.get(abr);
+		if (index == null) {
+			throw new IllegalArgumentException("Line " + lineNumber + " has " + abr + " which is not in the league.");
+		}
+		return index;
+	}
+
+	/**
+	 * Adds the result of one game.
+	 * 
+	 * @param awayTeam - position of the away team in the league.
+	 * @param homeTeam - position of the home team in the league.
+	 * @param homeWin  - true if the home team won.
+	 * @param ot       - true if the game went past regulation.
+	 */
+	private void addResult(int awayTeam, int homeTeam, boolean homeWin, boolean ot) {
+		if (amountOfGames == home.length) {
+			home = Arrays.copyOf(home, amountOfGames * 2);
+			away = Arrays.copyOf(away, amountOfGames * 2);
+			homeWon = Arrays.copyOf(homeWon, amountOfGames * 2);
+			overtime = Arrays.copyOf(overtime, amountOfGames * 2);
+		}
+		home[amountOfGames] = homeTeam;
+		away[amountOfGames] = awayTeam;
+		homeWon[amountOfGames] = homeWin;
+		overtime[amountOfGames] = ot;
+		amountOfGames++;
+		gamesOfTeam = null;
+	}
+
+	/**
+	 * amount of games read.
+	 */
+	public int amountOfGames() {
+		return amountOfGames;
+	}
+
+	/**
+	 * lists the games of each team.
+	 */
+	private void indexGames() {
+		int[] counts = new int[teams.size()];
+		for (int g = 0; g < amountOfGames; g++) {
+			counts[home[g]]++;
+			counts[away[g]]++;
+		}
+		gamesOfTeam = new int[teams.size()][];
+		for (int i = 0; i < teams.size(); i++) {
+			gamesOfTeam[i] = new int[counts[i]];
+			counts[i] = 0;
+		}
+		for (int g = 0; g < amountOfGames; g++) {
+			gamesOfTeam[home[g]][counts[home[g]]++] = g;
+			gamesOfTeam[away[g]][counts[away[g]]++] = g;
+		}
+	}
+
+	/**
+	 * Log of the chance of one result in the game model. The home advantage is
+	 * given to the better team the same way Game does.
+	 */
+	private double logChance(double[] x, GameModel model, int g) {
+		double homeSkill = Math.exp(x[home[g]]);
+		double awaySkill = Math.exp(x[away[g]]);
+		double homeAdv = model.homeAdvantage();
+		boolean homeBetter = homeSkill * homeAdv > awaySkill;
+		double betterSkill = (homeBetter ? homeSkill : awaySkill) * homeAdv;
+		double worseSkill = homeBetter ? awaySkill : homeSkill;
+		double share = GameModel.share(betterSkill, worseSkill);
+		double otProb = model.overtimeChance(share, overtimeBase);
+		double winProb = model.winChance(share);
+		boolean betterWon = homeWon[g] == homeBetter;
+		double chance;
+		if (overtime[g]) {
+			double otWinProb = (winProb - .5) / 4 + .5;
+			chance = otProb * (betterWon ? otWinProb : 1 - otWinProb);
+		} else {
+			chance = (1 - otProb) * (betterWon ? winProb : 1 - winProb);
+		}
+		return Math.log(Math.max(chance, smallestChance));
+	}
+
+	/**
+	 * game model with the root and home advantage of the parameters.
+	 */
+	private GameModel model(double[] x) {
+		int n = teams.size();
+		return new GameModel(Math.exp(x[n]), Math.exp(x[n + 1]));
+	}
+
+	/**
+	 * log likelihood of every game.
+	 */
+	private double logLikelihood(double[] x) {
+		GameModel model = model(x);
+		return IntStream.range(0, amountOfGames).parallel().mapToDouble(g -> logChance(x, model, g)).sum();
+	}
+
+	/**
+	 * log likelihood of only some of the games.
+	 */
+	private double logLikelihood(double[] x, int[] games) {
+		GameModel model = model(x);
+		double sum = 0;
+		for (int g : games) {
+			sum += logChance(x, model, g);
+		}
+		return sum;
+	}
+
+	/**
+	 * Numerical gradient of the log likelihood. Each parameter is done on its own
+	 * thread, and a team's skill level only needs that team's games.
+	 */
+	private double[] gradient(double[] x) {
+		int n = teams.size();
+		double[] gradient = new double[x.length];
+		int amountOfParameters = fitModel ? x.length : n;
+		IntStream.range(0, amountOfParameters).parallel().forEach(i -> {
+			double[] y = x.clone();
+			y[i] = x[i] + derivativeStep;
+			double above = i < n ? logLikelihood(y, gamesOfTeam[i]) : serialLogLikelihood(y);
+			y[i] = x[i] - derivativeStep;
+			double below = i < n ? logLikelihood(y, gamesOfTeam[i]) : serialLogLikelihood(y);
+			gradient[i] = (above - below) / (2 * derivativeStep);
+		});
+		return gradient;
+	}
+
+	/**
+	 * log likelihood of every game on the current thread.
+	 */
+	private double serialLogLikelihood(double[] x) {
+		GameModel model = model(x);
+		double sum = 0;
+		for (int g = 0; g < amountOfGames; g++) {
+			sum += logChance(x, model, g);
+		}
+		return sum;
+	}
+
+	/**
+	 * Only ratios of skill levels matter, so this keeps the average log skill level
+	 * where it started.
+	 */
+	private static void center(double[] x, int n, double mean) {
+		double sum = 0;
+		for (int i = 0; i < n; i++) {
+			sum += x[i];
+		}
+		double shift = mean - sum / n;
+		for (int i = 0; i < n; i++) {
+			x[i] += shift;
+		}
+	}
+
+	/**
+	 * Fits the skill levels, and the root and home advantage if chosen, by maximum
+	 * likelihood using gradient ascent with a step size that grows after each
+	 * improvement and shrinks after each miss.
+	 * 
+	 * @return log likelihood of the results after the fit.
+	 * @throws IllegalStateException - throws exception if no results were read.
+	 */
+	public double fit() throws IllegalStateException {
+		if (amountOfGames == 0) {
+			throw new IllegalStateException("There are no results to fit.");
+		}
+		if (gamesOfTeam == null) {
+			indexGames();
+		}
+		int n = teams.size();
+		double mean = 0;
+		for (int i = 0; i < n; i++) {
+			mean += parameters[i] / n;
+		}
+		double[] x = parameters.clone();
+		double current = logLikelihood(x);
+		double step = .1;
+		for (int iteration = 0; iteration < maxIterations && step > 1e-9; iteration++) {
+			double[] gradient = gradient(x);
+			double norm = 0;
+			for (double d : gradient) {
+				norm += d * d;
+			}
+			norm = Math.sqrt(norm);
+			if (norm < 1e-9) {
+				break;
+			}
+			while (step > 1e-9) {
+				double[] y = x.clone();
+				for (int i = 0; i < y.length; i++) {
+					y[i] += step * gradient[i] / norm;
+				}
+				center(y, n, mean);
+				double next = logLikelihood(y);
+				if (next > current) {
+					x = y;
+					current = next;
+					step *= 1.5;
+					break;
+				}
+				step /= 2;
+			}
+		}
+		parameters = x;
+		return current;
+	}
+
+	/**
+	 * fitted skill level of a team.
+	 */
+	public double skill(Team team) throws IllegalArgumentException {
+		Integer index = abbreviations.get(team.abbreviation());
+		if (index == null || teams.get(index) != team) {
+			throw new IllegalArgumentException("The " + team.city() + " " + team.name() + " are not being fit.");
+		}
+		return Math.exp(parameters[index]);
+	}
+
+	/**
+	 * fitted root of the game model.
+	 */
+	public double root() {
+		return Math.exp(parameters[teams.size()]);
+	}
+
+	/**
+	 * fitted home advantage of the game model.
+	 */
+	public double homeAdvantage() {
+		return Math.exp(parameters[teams.size() + 1]);
+	}
+
+	/**
+	 * fitted game model.
+	 */
+	public GameModel model() {
+		return new GameModel(root(), homeAdvantage());
+	}
+
+	/**
+	 * Gives every team its fitted skill level and gives the league the fitted game
+	 * model. Other leagues keep their own model.
+	 */
+	public void apply() {
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setSkill(Math.exp(parameters[i]));
+		}
+		league.setGameModel(model());
+	}
+
+	/**
+	 * Writes the fit to a skill file in the format of a league configuration. The
+	 * first line is the fitted model followed by a team line with the skill level
+	 * of each team, so the lines can replace the model and team lines of the
+	 * league's configuration file.
+	 * 
+	 * <pre>
+	 * model: 0.6, 1.15
+	 * team: Boston, Bruins, BOS, 1.08
+	 * </pre>
+	 * 
+	 * @param fileName - path of the file to write.
+	 * @throws FileNotFoundException - throws exception if the file can't be made.
+	 */
+	public void writeSkills(String fileName) throws FileNotFoundException {
+		try (PrintWriter out = new PrintWriter(fileName)) {
+			out.println("model: " + root() + ", " + homeAdvantage());
+			for (int i = 0; i < teams.size(); i++) {
+				Team t = teams.get(i);
+				out.println("team: " + t.city() + ", " + t.name() + ", " + t.abbreviation() + ", "
+						+ Math.exp(parameters[i]));
+			}
+		}
+	}
+
+	/**
+	 * Reads a skill file made by writeSkills and gives each team in the league its
+	 * skill level. Teams are found by their abbreviation. If the file has a model
+	 * line, the league is given that game model as well.
+	 * 
+	 * @param league   - league with the teams in the file.
+	 * @param fileName - path of the skill file.
+	 * @return amount of teams given a skill level.
+	 * @throws IOException              - throws exception if the file can't be
+	 *                                  read.
+	 * @throws IllegalArgumentException - throws exception if a team is not in the
+	 *                                  league or a line is not valid.
+	 */
+	public static int applySkills(League league, String fileName) throws IOException, IllegalArgumentException {
+		HashMap<String, Team> byAbbreviation = new HashMap<>();
+		for (Team t : league.liveTeams()) {
+			byAbbreviation.put(t.abbreviation(), t);
+		}
+		double root = league.gameModel().root();
+		double homeAdv = league.gameModel().homeAdvantage();
+		HashMap<Team, Double> skills = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				try {
+					String[] fields = line.substring(line.indexOf(':') + 1).split(",");
+					if (line.startsWith("model:") && fields.length == 2) {
+						root = Double.parseDouble(fields[0].trim());
+						homeAdv = Double.parseDouble(fields[1].trim());
+					} else if (line.startsWith("team:") && fields.length == 4) {
+						Team t = byAbbreviation.get(fields[2].trim());
+						if (t == null) {
+							throw new IllegalArgumentException(
+									"Line " + lineNumber + " of " + fileName + " is not a team in the league.");
+						}
+						skills.put(t, Double.parseDouble(fields[3].trim()));
+					} else {
+						throw new IllegalArgumentException(
+								"Line " + lineNumber + " of " + fileName + " is not a model or team line.");
+					}
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException(
+							"Line " + lineNumber + " of " + fileName + " has an invalid number.");
+				}
+			}
+		}
+		GameModel model = new GameModel(root, homeAdv);
+		league.setGameModel(model);
+		for (Team t : skills.keySet()) {
+			t.setSkill(skills.get(t));
+		}
+		return skills.size();
+	}
+}
@@ -4,9 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
-import java.util.PriorityQueue;
-import java.util.Random;
 
 public class Conference implements Group {
 
@@ -19,6 +18,8 @@ public class Conference implements Group {
 	private Team winner;
 	private int teamsPerDivisionPlayoffs;
 	private char playoffStructure;
+	private final RenderCache standingsText = new RenderCache();
+	private final RenderCache divisionalStandingsText = new RenderCache();
 
 	/**
 	 * Constructing conference which consists of divisions. Choose the amount of
@@ -123,6 +124,14 @@ public class Conference implements Group {
 		} else {
 			playoffStructure = 'N';
 		}
+		league.standingsChanged();
+	}
+
+	/**
+	 * letter for the current standings format ('L', 'D', 'P' or 'N').
+	 */
+	public char playoffStructure() {
+		return playoffStructure;
 	}
 
 	/**
@@ -151,6 +160,7 @@ public class Conference implements Group {
 			throw new IllegalArgumentException("There must be more playoff spots than divisional playoff spots.");
 		}
 		amountOfPlayoffTeams = numberOfPlayoffTeams;
+		league.standingsChanged();
 		return true;
 	}
 
@@ -181,10 +191,9 @@ public class Conference implements Group {
 			return false;
 		}
 		if (divs.remove(div)) {
-			for (Team t : div.teams()) {
-				removeTeamConference(t);
-				league.removeTeamLeague(t);
-			}
+			HashSet<Team> removed = new HashSet<>(div.liveTeams());
+			removeTeamsConference(removed);
+			league.removeTeamsLeague(removed);
 			return true;
 		}
 		return false;
@@ -206,8 +215,26 @@ public class Conference implements Group {
 	 * @param team - team to remove.
 	 */
 	protected void removeTeamConference(Team team) {
-		teams.remove(team);
-		size--;
+		if (removeFromStandings(team)) {
+			size--;
+		}
+	}
+
+	/**
+	 * Removes teams from the conference at once, rebuilding the standings list
+	 * once after every team is gone.
+	 * 
+	 * @param removed - teams to remove.
+	 */
+	private void removeTeamsConference(HashSet<Team> removed) {
+		int before = teams.size();
+		if (!teams.removeIf(removed::contains)) {
+			return;
+		}
+		size -= before - teams.size();
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setConferenceSeedHint(i + 1);
+		}
 	}
 
 	/**
@@ -225,11 +252,12 @@ public class Conference implements Group {
 	 * @param div - new division in conference.
 	 */
 	protected void addDivision(Division div) {
-		ArrayList<Team> divTeams = div.teams();
+		ArrayList<Team> divTeams = div.liveTeams();
 		for (Team t : divTeams) {
 			addTeam(t);
 		}
 		divs.add(div);
+		league.standingsChanged();
 	}
 
 	/**
@@ -256,10 +284,19 @@ public class Conference implements Group {
 	}
 
 	/**
-	 * teams in this conference in order of their ranking.
+	 * Teams in this conference in order of the published standings. The list is a
+	 * copy, so it can be read from any thread while the season is simulated.
 	 */
 	@Override
 	public ArrayList<Team> teams() {
+		return league.publishedStandings().standings(this);
+	}
+
+	/**
+	 * Standings list of the conference, changed as the season is simulated. Only
+	 * for the thread simulating the league.
+	 */
+	protected ArrayList<Team> liveTeams() {
 		return teams;
 	}
 
@@ -279,23 +316,26 @@ public class Conference implements Group {
 	 * @param teams - all teams in the division.
 	 */
 	private void tieBreakCheck(ArrayList<Team> teams) {
-		Collections.sort(teams, (x, y) -> x.compareTo(y));
+		long[] keys = league().tiebreaker().sort(teams, false);
 		for (int i = 0; i < teams.size() - 1; i++) {
-			if (teams.get(i).compareTo(teams.get(i + 1)) == 0) {
+			if (keys[i] == keys[i + 1]) {
 				int numberOfTies = 2;
-				while (i + numberOfTies < teams.size() && teams.get(i).compareTo(teams.get(i + numberOfTies)) == 0) {
+				while (i + numberOfTies < teams.size() && keys[i] == keys[i + numberOfTies]) {
 					numberOfTies++;
 				}
 				ArrayList<Team> tiedTeams = new ArrayList<>();
 				for (int j = 0; j < numberOfTies; j++) {
 					tiedTeams.add(teams.get(i + j));
 				}
+				boolean drawn = true;
 				if (regularSeason() != null) {
-					trueTieBreakCheck(tiedTeams);
+					drawn = trueTieBreakCheck(tiedTeams);
 				} else {
-					Collections.shuffle(tiedTeams);
+					Collections.shuffle(tiedTeams, league().random());
 					sameDivisionCheck(tiedTeams);
 				}
+				SimulationMetrics.get().tiebreak(drawn);
+				SimulationEvents.tiebreak(name, numberOfTies, 1, drawn);
 				for (int j = 0; j < numberOfTies; j++) {
 					teams.set(i + j, tiedTeams.get(j));
 				}
@@ -330,8 +370,10 @@ public class Conference implements Group {
 	 * choosing randomly.
 	 * 
 	 * @param tiedTeams - teams that are tied beyond the tie breaker.
+	 * @return true if any teams were still tied after head to head.
 	 */
-	private void trueTieBreakCheck(ArrayList<Team> tiedTeams) {
+	private boolean trueTieBreakCheck(ArrayList<Team> tiedTeams) {
+		boolean drawn = false;
 		HashMap<Team, double[]> map = regularSeason().headToHead(tiedTeams);
 		regularSeason().pointTieCheck(map, tiedTeams);
 		for (int i = 0; i < tiedTeams.size() - 1; i++) {
@@ -346,29 +388,29 @@ public class Conference implements Group {
 					subTies.add(tiedTeams.get(i + j));
 				}
 				// no more tiebreaker so now it is just random.
-				Collections.shuffle(subTies);
+				Collections.shuffle(subTies, league().random());
 				sameDivisionCheck(subTies);
+				SimulationEvents.tiebreak(name, numberOfTies, 2, true);
+				drawn = true;
 				for (int j = 0; j < numberOfTies; j++) {
 					tiedTeams.set(i + j, subTies.get(j));
 				}
 				i += numberOfTies - 1;
 			}
 		}
+		return drawn;
 	}
 
 	private void sameDivisionCheck(ArrayList<Team> tiedTeams) {
-		ArrayList<ArrayList<Team>> arr = new ArrayList<>();
-		for (int i = 0; i < divs.size(); i++) {
-			arr.add(new ArrayList<>());
-		}
+		HashMap<Division, ArrayList<Team>> arr = new HashMap<>();
 		for (Team t : tiedTeams) {
-			arr.get(divs.indexOf(t.division())).add(t);
+			arr.computeIfAbsent(t.division(), d -> new ArrayList<>()).add(t);
 		}
-		for (ArrayList<Team> ars : arr) {
+		for (ArrayList<Team> ars : arr.values()) {
 			Collections.sort(ars, (x, y) -> x.divisionSeeding() - y.divisionSeeding());
 		}
 		for (int i = 0; i < tiedTeams.size(); i++) {
-			ArrayList<Team> divOfTeam = arr.get(divs.indexOf(tiedTeams.get(i).division()));
+			ArrayList<Team> divOfTeam = arr.get(tiedTeams.get(i).division());
 			tiedTeams.set(i, divOfTeam.remove(divOfTeam.size() - 1));
 		}
 	}
@@ -381,7 +423,7 @@ public class Conference implements Group {
 		ArrayList<Team> divLeaders = new ArrayList<>();
 		ArrayList<Team> otherTeams = new ArrayList<>();
 		for (Division div : divs) {
-			ArrayList<Team> thisDiv = div.teams();
+			ArrayList<Team> thisDiv = div.liveTeams();
 			// account for if division is small.
 			int min = 1;
 			for (int i = 0; i < min; i++) {
@@ -443,18 +485,11 @@ public class Conference implements Group {
 	 */
 	private void updateStandingsDivLeadersDoesNotMatter() {
 		int seed = 1;
-		PriorityQueue<Team> queue = new PriorityQueue<Team>((x, y) -> y.compareTo(x));
 		for (Division div : divs) {
-			queue.add(div.leader());
-		}
-		while (!queue.isEmpty()) {
-			Team nextTeam = queue.poll();
-			teams.set(seed - 1, nextTeam);
-			Division div = nextTeam.division();
-			if (nextTeam != div.last()) {
-				queue.add(div.teams().get(nextTeam.divisionSeeding()));
+			for (Team t : div.liveTeams()) {
+				teams.set(seed - 1, t);
+				seed++;
 			}
-			seed++;
 		}
 		tieBreakCheck(teams);
 		Collections.reverse(teams);
@@ -468,7 +503,7 @@ public class Conference implements Group {
 		ArrayList<Team> divLeaders = new ArrayList<>();
 		ArrayList<Team> otherTeams = new ArrayList<>();
 		for (Division div : divs) {
-			ArrayList<Team> thisDiv = div.teams();
+			ArrayList<Team> thisDiv = div.liveTeams();
 			// account for if division is small.
 			int min = Math.min(teamsPerDivisionPlayoffs, thisDiv.size());
 			for (int i = 0; i < min; i++) {
@@ -494,7 +529,7 @@ public class Conference implements Group {
 			} else if (checkDivision(divLeaders, otherTeams.get(remainingTeamsSize - 1))) {
 				teams.set(seed - 1, divLeaders.remove(divLeaderSize - 1));
 			} else {
-				if (new Random().nextBoolean()) {
+				if (league().random().nextBoolean()) {
 					teams.set(seed - 1, divLeaders.remove(divLeaderSize - 1));
 				} else {
 					teams.set(seed - 1, otherTeams.remove(remainingTeamsSize - 1));
@@ -530,6 +565,9 @@ public class Conference implements Group {
 		} else {
 			updateStandingsDivLeadersDoesNotMatter();
 		}
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setConferenceSeedHint(i + 1);
+		}
 	}
 
 	/**
@@ -575,14 +613,25 @@ public class Conference implements Group {
 	 * standings for each division in the conference.
 	 */
 	public String divisionalStandings() {
-		String str = regularSeason().year() + "-" + (regularSeason().year() + 1) + " " + name
+		return divisionalStandings(league().publishedStandings());
+	}
+
+	/**
+	 * standings for each division in the conference in a snapshot of the league.
+	 */
+	protected String divisionalStandings(StandingsSnapshot snapshot) {
+		return divisionalStandingsText.get(snapshot.version(), () -> renderDivisionalStandings(snapshot));
+	}
+
+	private String renderDivisionalStandings(StandingsSnapshot snapshot) {
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name
 				+ " Conference Divisional Standings\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "*";
 		}
 		for (Division div : divs) {
-			str += "\n\n" + div.standings();
+			str += "\n\n" + div.standings(snapshot);
 		}
 		return str;
 	}
@@ -590,9 +639,8 @@ public class Conference implements Group {
 	/**
 	 * standings for divisional playoffs.
 	 */
-	private String standingsDivisionalPlayoffs() {
-		String str = regularSeason().year() + "-" + (regularSeason().year() + 1) + " " + name
-				+ " Conference Standings\n";
+	private String standingsDivisionalPlayoffs(StandingsSnapshot snapshot) {
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name + " Conference Standings\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "*";
@@ -600,22 +648,26 @@ public class Conference implements Group {
 		str += "\n";
 		ArrayList<Team> divLeaders = new ArrayList<Team>();
 		for (Division div : divs) {
-			divLeaders.add(div.leader());
+			ArrayList<Team> divTeams = snapshot.standings(div);
+			if (!divTeams.isEmpty()) {
+				divLeaders.add(divTeams.get(0));
+			}
 		}
-		Collections.sort(divLeaders, (x, y) -> y.conferenceSeeding() - x.conferenceSeeding());
+		Collections.sort(divLeaders,
+				(x, y) -> snapshot.conferenceSeeding(y) - snapshot.conferenceSeeding(x));
 		while (!divLeaders.isEmpty()) {
 			Division div = divLeaders.remove(divLeaders.size() - 1).division();
+			ArrayList<Team> divTeams = snapshot.standings(div);
 			str += "\n" + div.name() + " Division";
-			for (int i = 0; i < div.amountOfPlayoffTeams(); i++) {
-				str += "\n{" + (i + 1) + "}   " + div.teams().get(i).toString();
+			for (int i = 0; i < Math.min(teamsPerDivisionPlayoffs, divTeams.size()); i++) {
+				str += "\n{" + (i + 1) + "}   " + snapshot.standingsLine(divTeams.get(i));
 			}
 			str += "\n";
 		}
 		int count = 0;
-		for (int i = 0; i < teams.size(); i++) {
-			Team team = teams.get(i);
-			if (team.divisionSeeding() > teamsPerDivisionPlayoffs) {
-				str += "\n" + team.toString();
+		for (Team team : snapshot.standings(this)) {
+			if (snapshot.divisionSeeding(team) > teamsPerDivisionPlayoffs) {
+				str += "\n" + snapshot.standingsLine(team);
 				count++;
 				if (count == numberOfWildcardTeams()) {
 					str += "\n------------------------------------------------------------------------------------------";
@@ -630,21 +682,33 @@ public class Conference implements Group {
 	 */
 	@Override
 	public String standings() {
+		return standings(league().publishedStandings());
+	}
+
+	/**
+	 * standings of the conference in a snapshot of the league.
+	 */
+	protected String standings(StandingsSnapshot snapshot) {
+		return standingsText.get(snapshot.version(), () -> renderStandings(snapshot));
+	}
+
+	private String renderStandings(StandingsSnapshot snapshot) {
 		if (playoffStructure == 'D') {
-			return standingsDivisionalPlayoffs();
+			return standingsDivisionalPlayoffs(snapshot);
 		}
-		String str = regularSeason().year() + "-" + (regularSeason().year() + 1) + " " + name
-				+ " Conference Standings\n";
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name + " Conference Standings\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "*";
 		}
-		for (int i = 0; i < amountOfPlayoffTeams(); i++) {
-			str += "\n" + teams.get(i).toString();
+		ArrayList<Team> confTeams = snapshot.standings(this);
+		int cutoffLine = Math.min(amountOfPlayoffTeams(), confTeams.size());
+		for (int i = 0; i < cutoffLine; i++) {
+			str += "\n" + snapshot.standingsLine(confTeams.get(i));
 		}
 		str += "\n------------------------------------------------------------------------------------------";
-		for (int i = amountOfPlayoffTeams(); i < size; i++) {
-			str += "\n" + teams.get(i).toString();
+		for (int i = cutoffLine; i < confTeams.size(); i++) {
+			str += "\n" + snapshot.standingsLine(confTeams.get(i));
 		}
 		return str;
 	}
@@ -655,14 +719,46 @@ public class Conference implements Group {
 	 */
 	@Override
 	public int seedingOfTeam(Team team) throws NoSuchElementException {
-		int seed = teams.indexOf(team) + 1;
+		int seed = position(team) + 1;
 		if (seed == 0) {
 			throw new NoSuchElementException(
 					"The " + team.city() + " " + team.name() + " are not in the " + this.name + " conference.");
 		}
+		team.setConferenceSeedHint(seed);
 		return seed;
 	}
 
+	/**
+	 * position of a team in the standings list, -1 if it is not in this conference. The
+	 * team's last known seed is checked before searching the list.
+	 */
+	private int position(Team team) {
+		int seed = team.conferenceSeedHint();
+		if (seed >= 1 && seed <= teams.size() && teams.get(seed - 1) == team) {
+			return seed - 1;
+		}
+		return teams.indexOf(team);
+	}
+
+	/**
+	 * Takes a team out of the standings list. Teams after it move up one seed and
+	 * their last known seeds are moved with them, so the next team removed is found
+	 * without searching the list.
+	 * 
+	 * @return false if the team is not in this conference.
+	 */
+	private boolean removeFromStandings(Team team) {
+		int index = position(team);
+		if (index < 0) {
+			return false;
+		}
+		teams.remove(index);
+		for (int i = index; i < teams.size(); i++) {
+			teams.get(i).setConferenceSeedHint(i + 1);
+		}
+		return true;
+	}
+
 	/**
 	 * Finds the team at a specified seed. Throws IndexOutOfBoundsException if it is
 	 * an invalid seeding (<1 or >division size).
@@ -0,0 +1,128 @@
+package sim;
+
+import java.util.ArrayList;
+
+public class DeterminismCheck {
+
+	/**
+	 * Plays the same seeded season twice, once game by game and once with each
+	 * round of games simulated in parallel, and compares every team afterwards.
+	 * Both seasons use the same schedule and start every team with the same skill
+	 * and health so only the games can make them different. The seasons are
+	 * stopped one game before the end so the offseason changes are left out.
+	 * 
+	 * @param seed - seed for the games of both seasons.
+	 * @return description of every team that ended differently, empty if the
+	 *         seasons matched.
+	 */
+	public static String compareSerialAndParallel(long seed) {
+		League serial = Simulation.league2021();
+		League parallel = Simulation.league2021();
+		// the standings list is reordered as the season goes so both lists are copies.
+		ArrayList<Team> serialTeams = new ArrayList<>(serial.liveTeams());
+		ArrayList<Team> parallelTeams = new ArrayList<>();
+		for (Team t : serialTeams) {
+			parallelTeams.add(parallel.teamWithAbbreviation(t.abbreviation()));
+		}
+		ScheduleTemplate template = new ScheduleTemplate(serialTeams, Simulation.schedule2021(serial));
+		RegularSeason serialSeason = season(serialTeams, template, seed, false);
+		RegularSeason parallelSeason = season(parallelTeams, template, seed, true);
+		serialSeason.simToThisGame(serialSeason.totalAmountOfGames() - 1);
+		parallelSeason.simToThisGame(parallelSeason.totalAmountOfGames() - 1);
+		String differences = "";
+		for (int i = 0; i < serialTeams.size(); i++) {
+			Team s = serialTeams.get(i);
+			Team p = parallelTeams.get(i);
+			if (s.trueSkillLevel() != p.trueSkillLevel() || s.healthRating() != p.healthRating()
+					|| s.points() != p.points() || s.regulationWins() != p.regulationWins()) {
+				differences += s.abbreviation() + ": serial " + s.trueSkillLevel() + " " + s.healthRating() + " "
+						+ s.points() + ", parallel " + p.trueSkillLevel() + " " + p.healthRating() + " " + p.points()
+						+ "\n";
+			}
+		}
+		return differences;
+	}
+
+	/**
+	 * Makes a seeded season for the teams where the team at each position starts
+	 * with the same skill and health no matter which league it is in.
+	 */
+	private static RegularSeason season(ArrayList<Team> teams, ScheduleTemplate template, long seed,
+			boolean inParallel) {
+		RegularSeason reg = new RegularSeason(teams.get(0).league(), template.schedule(teams), 2021);
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).restoreSkill(6000 + 25 * i, 0.9);
+		}
+		reg.setSeed(seed);
+		reg.simulateRoundsInParallel(inParallel);
+		return reg;
+	}
+
+	/**
+	 * Simulates the same seeded seasons and playoffs the way a worker does, reusing
+	 * one league on each thread, and again with a new league for every season, then
+	 * compares how often each team finished with each result.
+	 * 
+	 * @param firstSeed  - seed of the first season.
+	 * @param replicates - amount of seasons in each run.
+	 * @return description of every team with different counts, empty if the runs
+	 *         matched.
+	 */
+	public static String compareReplicates(long firstSeed, int replicates) {
+		League league = Simulation.league2021();
+		LeagueTopology topology = new LeagueTopology(league);
+		SeasonState state = new SeasonState(topology, league);
+		ScheduleTemplate schedule = new ScheduleTemplate(topology.teamOrder(league), Simulation.schedule2021(league));
+		SimulationWorker.Job job = new SimulationWorker.Job(topology, state, schedule, 'R', 2021, firstSeed,
+				replicates);
+		OutcomeHistogram first = SimulationWorker.run(job);
+		OutcomeHistogram second = new OutcomeHistogram(topology);
+		for (int i = 0; i < replicates; i++) {
+			League copy = topology.build(state);
+			ArrayList<Team> teams = topology.teamOrder(copy);
+			new RegularSeason(copy, schedule.schedule(teams), 2021, firstSeed + i).simSeason();
+			new Playoffs(copy, 'R').simPlayoffs();
+			second.add(teams);
+		}
+		String differences = "";
+		for (int i = 0; i < topology.size(); i++) {
+			for (int result = -1; result <= first.amountOfRounds() + 1; result++) {
+				if (first.count(i, result) != second.count(i, result)) {
+					differences += topology.abbreviation(i) + " result " + result + ": " + first.count(i, result)
+							+ " and " + second.count(i, result) + "\n";
+				}
+			}
+		}
+		return differences;
+	}
+
+	/**
+	 * Compares serial and parallel seasons for a few seeds, then checks that
+	 * reusing a league gives the same replicates as making new ones. Exits with
+	 * status 1 if anything differs so a build can run it as a check.
+	 * 
+	 * @param args - optionally the amount of seeds to check, 5 by default.
+	 */
+	public static void main(String[] args) {
+		int seeds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		int failed = 0;
+		for (long seed = 1; seed <= seeds; seed++) {
+			String differences = compareSerialAndParallel(seed);
+			if (!differences.isEmpty()) {
+				failed++;
+				System.out.print("Seed " + seed + " differs\n" + differences);
+			}
+		}
+		System.out.println((seeds - failed) + " of " + seeds + " seeds matched.");
+		String differences = compareReplicates(1, 50 * seeds);
+		if (differences.isEmpty()) {
+			System.out.println("Reused and new leagues matched over " + 50 * seeds + " replicates.");
+		} else {
+			failed++;
+			System.out.print("Replicates differ\n" + differences);
+		}
+		if (failed > 0) {
+			System.exit(1);
+		}
+	}
+}
@@ -11,6 +11,7 @@ public class Division implements Group {
 	private Conference conf;
 	private String name;
 	private int size;
+	private final RenderCache standingsText = new RenderCache();
 
 	/**
 	 * Constructing new division in some conference.
@@ -35,7 +36,7 @@ public class Division implements Group {
 		if (league().seasonInSession()) {
 			return false;
 		}
-		if (teams.remove(team)) {
+		if (removeFromStandings(team)) {
 			conf.removeTeamConference(team);
 			league().removeTeamLeague(team);
 			size--;
@@ -45,21 +46,47 @@ public class Division implements Group {
 	}
 
 	/**
-	 * teams in this division in order of their standings.
+	 * Teams in this division in order of the published standings. The list is a
+	 * copy, so it can be read from any thread while the season is simulated.
 	 */
 	@Override
 	public ArrayList<Team> teams() {
+		return league().publishedStandings().standings(this);
+	}
+
+	/**
+	 * Standings list of the division, changed as the season is simulated. Only for
+	 * the thread simulating the league.
+	 */
+	protected ArrayList<Team> liveTeams() {
 		return teams;
 	}
 
 	/**
 	 * adds new team to division. If the team is already in the league, it will move
-	 * to this division and be removed from the other division.
+	 * to this division and be removed from the other division. A team from another
+	 * league is removed from that league first.
 	 * 
 	 * @param team - team added to division.
+	 * @return false if the team is in another league that is in session.
+	 * @throws IllegalArgumentException - throws exception if the team comes from
+	 *                                  another league and a team in this league
+	 *                                  already has its name or abbreviation.
 	 */
-	public boolean addTeam(Team team) {
-		team.division().removeTeam(team);
+	public boolean addTeam(Team team) throws IllegalArgumentException {
+		Division old = team.division();
+		if (old.league() == league()) {
+			// the team stays in the league so it keeps its place in the league's indexes.
+			if (old.removeFromStandings(team)) {
+				old.size--;
+				old.conf.removeTeamConference(team);
+			}
+		} else {
+			league().checkNames(null, team.name(), team.abbreviation());
+			if (!old.removeTeam(team)) {
+				return false;
+			}
+		}
 		teams.add(team);
 		size++;
 		conf.addTeam(team);
@@ -79,6 +106,9 @@ public class Division implements Group {
 	 */
 	protected void updateStandings() {
 		tieBreakCheck(teams);
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setDivisionSeedHint(i + 1);
+		}
 	}
 
 	/**
@@ -96,22 +126,25 @@ public class Division implements Group {
 	 * @param teams - all teams in the division.
 	 */
 	private void tieBreakCheck(ArrayList<Team> teams) {
-		Collections.sort(teams, (x, y) -> y.compareTo(x));
+		long[] keys = league().tiebreaker().sort(teams, true);
 		for (int i = 0; i < teams.size() - 1; i++) {
-			if (teams.get(i).compareTo(teams.get(i + 1)) == 0) {
+			if (keys[i] == keys[i + 1]) {
 				int numberOfTies = 2;
-				while (i + numberOfTies < teams.size() && teams.get(i).compareTo(teams.get(i + numberOfTies)) == 0) {
+				while (i + numberOfTies < teams.size() && keys[i] == keys[i + numberOfTies]) {
 					numberOfTies++;
 				}
 				ArrayList<Team> tiedTeams = new ArrayList<>();
 				for (int j = 0; j < numberOfTies; j++) {
 					tiedTeams.add(teams.get(i + j));
 				}
+				boolean drawn = true;
 				if (regularSeason() != null) {
-					trueTieBreakCheck(tiedTeams);
+					drawn = trueTieBreakCheck(tiedTeams);
 				} else {
-					Collections.shuffle(tiedTeams);
+					Collections.shuffle(tiedTeams, league().random());
 				}
+				SimulationMetrics.get().tiebreak(drawn);
+				SimulationEvents.tiebreak(name, numberOfTies, 1, drawn);
 				for (int j = 0; j < numberOfTies; j++) {
 					teams.set(i + j, tiedTeams.get(j));
 				}
@@ -139,8 +172,10 @@ public class Division implements Group {
 	 * choosing randomly.
 	 * 
 	 * @param tiedTeams - teams that are tied beyond the tie breaker.
+	 * @return true if any teams were still tied after head to head.
 	 */
-	private void trueTieBreakCheck(ArrayList<Team> tiedTeams) {
+	private boolean trueTieBreakCheck(ArrayList<Team> tiedTeams) {
+		boolean drawn = false;
 		HashMap<Team, double[]> map = regularSeason().headToHead(tiedTeams);
 		regularSeason().pointTieCheck(map, tiedTeams);
 		for (int i = 0; i < tiedTeams.size() - 1; i++) {
@@ -155,13 +190,16 @@ public class Division implements Group {
 					subTies.add(tiedTeams.get(i + j));
 				}
 				// no more tiebreaker so now it is just random.
-				Collections.shuffle(subTies);
+				Collections.shuffle(subTies, league().random());
+				SimulationEvents.tiebreak(name, numberOfTies, 2, true);
+				drawn = true;
 				for (int j = 0; j < numberOfTies; j++) {
 					tiedTeams.set(i + j, subTies.get(j));
 				}
 				i += numberOfTies - 1;
 			}
 		}
+		return drawn;
 	}
 
 	/**
@@ -176,18 +214,30 @@ public class Division implements Group {
 	 */
 	@Override
 	public String standings() {
-		String str = regularSeason().year() + "-" + (regularSeason().year() + 1) + " " + name + " Division\n";
+		return standings(league().publishedStandings());
+	}
+
+	/**
+	 * standings of the division in a snapshot of the league.
+	 */
+	protected String standings(StandingsSnapshot snapshot) {
+		return standingsText.get(snapshot.version(), () -> renderStandings(snapshot));
+	}
+
+	private String renderStandings(StandingsSnapshot snapshot) {
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name + " Division\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "^";
 		}
-		int cutoffLine = conference().teamsPerDivisionPlayoffs();
+		ArrayList<Team> divTeams = snapshot.standings(this);
+		int cutoffLine = Math.min(conference().teamsPerDivisionPlayoffs(), divTeams.size());
 		for (int i = 0; i < cutoffLine; i++) {
-			str += "\n" + teams.get(i).toString();
+			str += "\n" + snapshot.standingsLine(divTeams.get(i));
 		}
 		str += "\n------------------------------------------------------------------------------------------";
-		for (int i = cutoffLine; i < size; i++) {
-			str += "\n" + teams.get(i).toString();
+		for (int i = cutoffLine; i < divTeams.size(); i++) {
+			str += "\n" + snapshot.standingsLine(divTeams.get(i));
 		}
 		return str;
 	}
@@ -228,14 +278,46 @@ public class Division implements Group {
 	 */
 	@Override
 	public int seedingOfTeam(Team team) throws NoSuchElementException {
-		int seed = teams.indexOf(team) + 1;
+		int seed = position(team) + 1;
 		if (seed == 0) {
 			throw new NoSuchElementException(
 					"The " + team.city() + " " + team.name() + " are not in the " + this.name + " division.");
 		}
+		team.setDivisionSeedHint(seed);
 		return seed;
 	}
 
+	/**
+	 * position of a team in the standings list, -1 if it is not in this division. The
+	 * team's last known seed is checked before searching the list.
+	 */
+	private int position(Team team) {
+		int seed = team.divisionSeedHint();
+		if (seed >= 1 && seed <= teams.size() && teams.get(seed - 1) == team) {
+			return seed - 1;
+		}
+		return teams.indexOf(team);
+	}
+
+	/**
+	 * Takes a team out of the standings list. Teams after it move up one seed and
+	 * their last known seeds are moved with them, so the next team removed is found
+	 * without searching the list.
+	 * 
+	 * @return false if the team is not in this division.
+	 */
+	private boolean removeFromStandings(Team team) {
+		int index = position(team);
+		if (index < 0) {
+			return false;
+		}
+		teams.remove(index);
+		for (int i = index; i < teams.size(); i++) {
+			teams.get(i).setDivisionSeedHint(i + 1);
+		}
+		return true;
+	}
+
 	/**
 	 * Finds the team at a specified seed. Throws IndexOutOfBoundsException if it is
 	 * an invalid seeding (<1 or >division size).
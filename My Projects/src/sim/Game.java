@@ -11,11 +11,9 @@ public class Game {
 	private boolean gamePlayed;
 	private char gameType;
 	private int gameNumber;
+	private int day;
 	private boolean neutral;
 
-	final static double root = .6;
-	final static double homeAdv = 1.15;
-
 	/**
 	 * Constructs game of with away team and home team. If the game type is not put
 	 * in as a parameter, it will be treated as an exhibition match. There are 3
@@ -78,6 +76,16 @@ public class Game {
 		gameNumber = gnum;
 	}
 
+	/**
+	 * clears the result so this game can be played again. The game number and day
+	 * are kept so a reused schedule doesn't need to be numbered again.
+	 */
+	protected void resetResult() {
+		winner = null;
+		countOT = 0;
+		gamePlayed = false;
+	}
+
 	/**
 	 * game number for this particular playoff/regular season game. An ordering for
 	 * when the games are played.
@@ -86,6 +94,30 @@ public class Game {
 		return gameNumber;
 	}
 
+	/**
+	 * sets the day of the season this game is played on.
+	 * 
+	 * @param day - day of the season starting at 1.
+	 */
+	protected void setDay(int day) {
+		this.day = day;
+	}
+
+	/**
+	 * day of the season this game is played on starting at 1. Returns 0 if the game
+	 * hasn't been given a day.
+	 */
+	public int day() {
+		return day;
+	}
+
+	/**
+	 * 'E' for exhibition, 'R' for regular season or 'P' for playoffs.
+	 */
+	public char gameType() {
+		return gameType;
+	}
+
 	/**
 	 * amount of overtimes.
 	 */
@@ -215,12 +247,12 @@ public class Game {
 	 * determines home advantage value depending on if the location of play is
 	 * neutral.
 	 */
-	private double homeAdvantage() {
+	private double homeAdvantage(GameModel model) {
 		double val;
 		if (neutral) {
-			val = homeAdv;
-		} else {
 			val = 1;
+		} else {
+			val = model.homeAdvantage();
 		}
 		return val;
 	}
@@ -228,23 +260,22 @@ public class Game {
 	/**
 	 * sims playoff game.
 	 */
-	private void simPlayoffGame() {
-		Random rng = new Random();
+	private void simPlayoffGame(Random rng) {
 		double p = rng.nextDouble();
 		Team worseTeam;
 		Team betterTeam;
-		double noAdv = homeAdvantage();
-		if (home.skillLevel() * homeAdv / noAdv > away.skillLevel()) {
+		GameModel model = home.league().gameModel();
+		double homeAdv = homeAdvantage(model);
+		if (home.skillLevel() * homeAdv > away.skillLevel()) {
 			worseTeam = away;
 			betterTeam = home;
 		} else {
 			worseTeam = home;
 			betterTeam = away;
 		}
-		double worseTeamSkill = worseTeam.skillLevel();
-		double betterTeamSkill = betterTeam.skillLevel() * homeAdv / noAdv;
-		double otProb = .27 - .4 * Math.pow(Math.abs(betterTeamSkill / (betterTeamSkill + worseTeamSkill) - .5), root);
-		double winProb = Math.pow(betterTeamSkill / (betterTeamSkill + worseTeamSkill) - .5, root) + .5;
+		double share = GameModel.share(betterTeam.skillLevel() * homeAdv, worseTeam.skillLevel());
+		double otProb = model.overtimeChance(share, .27);
+		double winProb = model.winChance(share);
 		while (p < Math.pow(otProb * .9, countOT + 1)) {
 			countOT++;
 		}
@@ -269,23 +300,22 @@ public class Game {
 	/*
 	 * sims regular season game.
 	 */
-	private void simRegularSeasonGame() {
-		Random rng = new Random();
+	private void simRegularSeasonGame(Random rng) {
 		double p = rng.nextDouble();
 		Team worseTeam;
 		Team betterTeam;
-		double noAdv = homeAdvantage();
-		if (home.skillLevel() * homeAdv / noAdv > away.skillLevel()) {
+		GameModel model = home.league().gameModel();
+		double homeAdv = homeAdvantage(model);
+		if (home.skillLevel() * homeAdv > away.skillLevel()) {
 			worseTeam = away;
 			betterTeam = home;
 		} else {
 			worseTeam = home;
 			betterTeam = away;
 		}
-		double worseTeamSkill = worseTeam.skillLevel();
-		double betterTeamSkill = betterTeam.skillLevel() * homeAdv / noAdv;
-		double otProb = .28 - .4 * Math.pow(Math.abs(betterTeamSkill / (betterTeamSkill + worseTeamSkill) - .5), root);
-		double winProb = Math.pow(betterTeamSkill / (betterTeamSkill + worseTeamSkill) - .5, root) + .5;
+		double share = GameModel.share(betterTeam.skillLevel() * homeAdv, worseTeam.skillLevel());
+		double otProb = model.overtimeChance(share, .28);
+		double winProb = model.winChance(share);
 		if (p < otProb) {
 			countOT = 1;
 			if (p < otProb * ((winProb - .5) / 4 + .5)) {
@@ -304,23 +334,22 @@ public class Game {
 	/**
 	 * sims exhibition match.
 	 */
-	private void exhibitionMatch() {
-		Random rng = new Random();
+	private void exhibitionMatch(Random rng) {
 		double p = rng.nextDouble();
 		Team worseTeam;
 		Team betterTeam;
-		double noAdv = homeAdvantage();
-		if (home.skillLevel() * homeAdv / noAdv > away.skillLevel()) {
+		GameModel model = home.league().gameModel();
+		double homeAdv = homeAdvantage(model);
+		if (home.skillLevel() * homeAdv > away.skillLevel()) {
 			worseTeam = away;
 			betterTeam = home;
 		} else {
 			worseTeam = home;
 			betterTeam = away;
 		}
-		double worseTeamSkill = worseTeam.skillLevel();
-		double betterTeamSkill = betterTeam.skillLevel() * homeAdv / noAdv;
-		double otProb = .28 - .4 * Math.pow(Math.abs(betterTeamSkill / (betterTeamSkill + worseTeamSkill) - .5), root);
-		double winProb = Math.pow(betterTeamSkill / (betterTeamSkill + worseTeamSkill) - .5, root) + .5;
+		double share = GameModel.share(betterTeam.skillLevel() * homeAdv, worseTeam.skillLevel());
+		double otProb = model.overtimeChance(share, .28);
+		double winProb = model.winChance(share);
 		if (p < otProb) {
 			countOT = 1;
 			if (p < otProb * ((winProb - .5) / 4 + .5)) {
@@ -365,19 +394,56 @@ public class Game {
 	 * simulates this game based on each team's skill level.
 	 */
 	protected void simGame() {
+		simGame(new Random());
+	}
+
+	/**
+	 * Simulates this game based on each team's skill level. Every random number
+	 * used for the game and the skill changes afterwards comes from the given
+	 * generator so the same generator state always gives the same result.
+	 * 
+	 * @param rng - random number generator for this game.
+	 */
+	protected void simGame(Random rng) {
 		if (!gamePlayed) {
+			GameLog log = home.league().gameLog();
+			double homeSkill = home.trueSkillLevel();
+			double homeHealth = home.healthRating();
+			double awaySkill = away.trueSkillLevel();
+			double awayHealth = away.healthRating();
 			if (gameType == 'R' || gameType == 'r') {
-				simRegularSeasonGame();
+				simRegularSeasonGame(rng);
 				gameResult();
-				away.changeSkill();
-				home.changeSkill();
+				away.changeSkill(rng);
+				home.changeSkill(rng);
 			} else if (gameType == 'P' || gameType == 'p') {
-				simPlayoffGame();
-				away.changeSkill();
-				home.changeSkill();
+				simPlayoffGame(rng);
+				away.changeSkill(rng);
+				home.changeSkill(rng);
 			} else {
-				exhibitionMatch();
+				exhibitionMatch(rng);
 			}
+			SimulationMetrics.get().gameSimulated(countOT > 0);
+			if (log != null) {
+				int year = home.regularSeason() == null ? 0 : home.regularSeason().year();
+				log.recordGame(this, year, homeSkill, homeHealth, awaySkill, awayHealth);
+			}
+		}
+	}
+
+	/**
+	 * Gives this game a result without simulating it. A regular season result is
+	 * added to the records of both teams.
+	 * 
+	 * @param winner    - team that won.
+	 * @param overtimes - amount of overtimes.
+	 */
+	protected void replayResult(Team winner, int overtimes) {
+		this.winner = winner;
+		countOT = overtimes;
+		gamePlayed = true;
+		if (gameType == 'R' || gameType == 'r') {
+			gameResult();
 		}
 	}
 
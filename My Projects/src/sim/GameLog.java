@@ -0,0 +1,348 @@
+package sim;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class GameLog implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private ArrayList<String> abbreviations = new ArrayList<>();
+	private HashMap<String, Integer> teamIds = new HashMap<>();
+	private int size;
+	private char[] kind = new char[256];
+	private int[] year = new int[256];
+	private int[] gameNumber = new int[256];
+	private int[] home = new int[256];
+	private int[] away = new int[256];
+	private int[] winner = new int[256];
+	private int[] overtimes = new int[256];
+	private int[] result = new int[256];
+	private boolean[] playoffs = new boolean[256];
+	private int[] leagueSeed = new int[256];
+	private int[] conferenceSeed = new int[256];
+	private int[] divisionSeed = new int[256];
+	private double[] homeSkillBefore = new double[256];
+	private double[] homeSkillAfter = new double[256];
+	private double[] homeHealthBefore = new double[256];
+	private double[] homeHealthAfter = new double[256];
+	private double[] awaySkillBefore = new double[256];
+	private double[] awaySkillAfter = new double[256];
+	private double[] awayHealthBefore = new double[256];
+	private double[] awayHealthAfter = new double[256];
+
+	/**
+	 * Makes an empty log. Give it to League.setGameLog and every game the league
+	 * plays is added to the end of it. Entries are never changed or removed.
+	 */
+	public GameLog() {
+	}
+
+	/**
+	 * Adds a game that was just simulated. 'R', 'P' or 'E' is used for the kind of
+	 * entry in the same way as the game type.
+	 * 
+	 * @param game             - game that was simulated.
+	 * @param year             - year of the season.
+	 * @param homeSkillBefore  - skill of the home team before the game.
+	 * @param homeHealthBefore - health of the home team before the game.
+	 * @param awaySkillBefore  - skill of the away team before the game.
+	 * @param awayHealthBefore - health of the away team before the game.
+	 */
+	protected synchronized void recordGame(Game game, int year, double homeSkillBefore, double homeHealthBefore,
+			double awaySkillBefore, double awayHealthBefore) {
+		int i = next();
+		kind[i] = Character.toUpperCase(game.gameType());
+		if (kind[i] != 'R' && kind[i] != 'P') {
+			kind[i] = 'E';
+		}
+		this.year[i] = year;
+		gameNumber[i] = game.gameNumber();
+		home[i] = teamId(game.home());
+		away[i] = teamId(game.away());
+		winner[i] = teamId(game.winner());
+		overtimes[i] = game.amountOfOvertimes();
+		this.homeSkillBefore[i] = homeSkillBefore;
+		this.homeHealthBefore[i] = homeHealthBefore;
+		this.awaySkillBefore[i] = awaySkillBefore;
+		this.awayHealthBefore[i] = awayHealthBefore;
+		homeSkillAfter[i] = game.home().trueSkillLevel();
+		homeHealthAfter[i] = game.home().healthRating();
+		awaySkillAfter[i] = game.away().trueSkillLevel();
+		awayHealthAfter[i] = game.away().healthRating();
+	}
+
+	/**
+	 * Adds the state of a team outside of a game. This covers the skill changes
+	 * before and after the season, the result of the season and the team's place
+	 * in the league, conference and division standings, so a replay can put the
+	 * standings back without breaking ties again. The kind of entry is 'S'.
+	 * 
+	 * @param team - team to save.
+	 * @param year - year of the season.
+	 */
+	protected synchronized void recordState(Team team, int year) {
+		int i = next();
+		kind[i] = 'S';
+		this.year[i] = year;
+		home[i] = teamId(team);
+		away[i] = -1;
+		winner[i] = -1;
+		homeSkillAfter[i] = team.trueSkillLevel();
+		homeHealthAfter[i] = team.healthRating();
+		result[i] = team.seasonResult();
+		playoffs[i] = team.playoffs();
+		leagueSeed[i] = team.leagueSeeding();
+		conferenceSeed[i] = team.conferenceSeeding();
+		divisionSeed[i] = team.divisionSeeding();
+	}
+
+	/**
+	 * index of the next entry, making the arrays bigger if they are full.
+	 */
+	private int next() {
+		if (size == kind.length) {
+			int length = 2 * size;
+			kind = Arrays.copyOf(kind, length);
+			year = Arrays.copyOf(year, length);
+			gameNumber = Arrays.copyOf(gameNumber, length);
+			home = Arrays.copyOf(home, length);
+			away = Arrays.copyOf(away, length);
+			winner = Arrays.copyOf(winner, length);
+			overtimes = Arrays.copyOf(overtimes, length);
+			result = Arrays.copyOf(result, length);
+			playoffs = Arrays.copyOf(playoffs, length);
+			leagueSeed = Arrays.copyOf(leagueSeed, length);
+			conferenceSeed = Arrays.copyOf(conferenceSeed, length);
+			divisionSeed = Arrays.copyOf(divisionSeed, length);
+			homeSkillBefore = Arrays.copyOf(homeSkillBefore, length);
+			homeSkillAfter = Arrays.copyOf(homeSkillAfter, length);
+			homeHealthBefore = Arrays.copyOf(homeHealthBefore, length);
+			homeHealthAfter = Arrays.copyOf(homeHealthAfter, length);
+			awaySkillBefore = Arrays.copyOf(awaySkillBefore, length);
+			awaySkillAfter = Arrays.copyOf(awaySkillAfter, length);
+			awayHealthBefore = Arrays.copyOf(awayHealthBefore, length);
+			awayHealthAfter = Arrays.copyOf(awayHealthAfter, length);
+		}
+		return size++;
+	}
+
+	/**
+	 * number for a team in this log. Teams are stored by abbreviation so the log
+	 * can be replayed into a different copy of the same league.
+	 */
+	private int teamId(Team team) {
+		if (team == null) {
+			return -1;
+		}
+		Integer id = teamIds.get(team.abbreviation());
+		if (id == null) {
+			id = abbreviations.size();
+			abbreviations.add(team.abbreviation());
+			teamIds.put(team.abbreviation(), id);
+		}
+		return id;
+	}
+
+	private String abbreviation(int id) {
+		if (id < 0) {
+			return null;
+		}
+		return abbreviations.get(id);
+	}
+
+	/**
+	 * amount of entries in the log.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * 'R' for a regular season game, 'P' for a playoff game, 'E' for an exhibition
+	 * match and 'S' for the state of a team outside of a game.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public char kind(int entry) {
+		return kind[entry];
+	}
+
+	/**
+	 * year of the season of an entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public int year(int entry) {
+		return year[entry];
+	}
+
+	/**
+	 * game number of a game entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public int gameNumber(int entry) {
+		return gameNumber[entry];
+	}
+
+	/**
+	 * abbreviation of the home team of a game entry, or of the team of a state
+	 * entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public String homeTeam(int entry) {
+		return abbreviation(home[entry]);
+	}
+
+	/**
+	 * abbreviation of the away team of a game entry. null for a state entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public String awayTeam(int entry) {
+		return abbreviation(away[entry]);
+	}
+
+	/**
+	 * abbreviation of the winner of a game entry. null for a state entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public String winner(int entry) {
+		return abbreviation(winner[entry]);
+	}
+
+	/**
+	 * amount of overtimes of a game entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public int overtimes(int entry) {
+		return overtimes[entry];
+	}
+
+	/**
+	 * season result of the team of a state entry.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public int seasonResult(int entry) {
+		return result[entry];
+	}
+
+	/**
+	 * whether the team of a state entry made the playoffs.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public boolean playoffs(int entry) {
+		return playoffs[entry];
+	}
+
+	/**
+	 * Seeds of the team of a state entry in the league, conference and division
+	 * standings when the entry was added. 0 for game entries.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 * @return league, conference and division seed.
+	 */
+	public int[] seeds(int entry) {
+		return new int[] { leagueSeed[entry], conferenceSeed[entry], divisionSeed[entry] };
+	}
+
+	/**
+	 * Skill level of a team in an entry. State entries only have the home team and
+	 * the skill after.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 * @param home  - true for the home team, false for the away team.
+	 * @param after - true for after the game, false for before.
+	 */
+	public double skill(int entry, boolean home, boolean after) {
+		if (home) {
+			return after ? homeSkillAfter[entry] : homeSkillBefore[entry];
+		}
+		return after ? awaySkillAfter[entry] : awaySkillBefore[entry];
+	}
+
+	/**
+	 * Health rating of a team in an entry. State entries only have the home team
+	 * and the health after.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 * @param home  - true for the home team, false for the away team.
+	 * @param after - true for after the game, false for before.
+	 */
+	public double health(int entry, boolean home, boolean after) {
+		if (home) {
+			return after ? homeHealthAfter[entry] : homeHealthBefore[entry];
+		}
+		return after ? awayHealthAfter[entry] : awayHealthBefore[entry];
+	}
+
+	/**
+	 * Playoff games of one year of a log, found by their home and away teams in the
+	 * order they were played. Used to replay playoffs without simulating them.
+	 */
+	protected static class Replay {
+		private final GameLog log;
+		private final HashMap<String, ArrayDeque<Integer>> games = new HashMap<>();
+
+		protected Replay(GameLog log, int year) {
+			this.log = log;
+			for (int i = 0; i < log.size(); i++) {
+				if (log.year(i) == year && log.kind(i) == 'P') {
+					games.computeIfAbsent(log.homeTeam(i) + " " + log.awayTeam(i), k -> new ArrayDeque<>()).add(i);
+				}
+			}
+		}
+
+		/**
+		 * Gives a game the result of the next logged game with the same home and away
+		 * teams and puts back the skill and health of both teams after it.
+		 * 
+		 * @param game - playoff game to replay.
+		 * @throws IllegalArgumentException - throws exception if the log has no more
+		 *                                  games between these teams.
+		 */
+		protected void play(Game game) throws IllegalArgumentException {
+			Team home = game.home();
+			Team away = game.away();
+			ArrayDeque<Integer> matchup = games.get(home.abbreviation() + " " + away.abbreviation());
+			if (matchup == null || matchup.isEmpty()) {
+				throw new IllegalArgumentException("The log does not have another playoff game with " + away.abbreviation()
+						+ " at " + home.abbreviation() + ".");
+			}
+			int entry = matchup.poll();
+			String winner = log.winner(entry);
+			game.replayResult(winner.equals(home.abbreviation()) ? home : away, log.overtimes(entry));
+			home.restoreSkill(log.skill(entry, true, true), log.health(entry, true, true));
+			away.restoreSkill(log.skill(entry, false, true), log.health(entry, false, true));
+		}
+	}
+
+	/**
+	 * one entry as a line of text.
+	 * 
+	 * @param entry - index of the entry starting at 0.
+	 */
+	public String entry(int entry) {
+		if (kind[entry] == 'S') {
+			return year[entry] + "\tS\t" + homeTeam(entry) + "\tskill " + homeSkillAfter[entry] + "\thealth "
+					+ homeHealthAfter[entry] + "\tresult " + result[entry] + "\tseeds " + leagueSeed[entry] + "/"
+					+ conferenceSeed[entry] + "/" + divisionSeed[entry];
+		}
+		String str = year[entry] + "\t" + kind[entry] + "\t" + gameNumber[entry] + "\t" + awayTeam(entry) + " @ "
+				+ homeTeam(entry) + "\t" + winner(entry);
+		if (overtimes[entry] > 0) {
+			str += " (" + overtimes[entry] + "OT)";
+		}
+		return str + "\t" + homeSkillBefore[entry] + " -> " + homeSkillAfter[entry] + "\t" + awaySkillBefore[entry]
+				+ " -> " + awaySkillAfter[entry];
+	}
+}
@@ -0,0 +1,81 @@
+package sim;
+
+import java.io.Serializable;
+
+public final class GameModel implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * model every league starts with.
+	 */
+	public static final GameModel DEFAULT = new GameModel(.6, 1.15);
+
+	private final double root;
+	private final double homeAdvantage;
+
+	/**
+	 * Constants of the model used to decide games. A model can't be changed, so a
+	 * league is given a new one instead and every other league keeps its own.
+	 *
+	 * @param root          - power applied to how far apart two teams are.
+	 * @param homeAdvantage - amount the home team's skill level is multiplied by.
+	 * @throws IllegalArgumentException - throws exception if either value is not
+	 *                                  positive.
+	 */
+	public GameModel(double root, double homeAdvantage) throws IllegalArgumentException {
+		if (!(root > 0) || !(homeAdvantage > 0)) {
+			throw new IllegalArgumentException("The root and home advantage must be positive.");
+		}
+		this.root = root;
+		this.homeAdvantage = homeAdvantage;
+	}
+
+	/**
+	 * power applied to how far apart two teams are. Lower values make upsets less
+	 * likely.
+	 */
+	public double root() {
+		return root;
+	}
+
+	/**
+	 * amount the home team's skill level is multiplied by.
+	 */
+	public double homeAdvantage() {
+		return homeAdvantage;
+	}
+
+	/**
+	 * How far the better team's share of the two skill levels is above one half.
+	 *
+	 * @param betterSkill - skill level of the better team after home advantage.
+	 * @param worseSkill  - skill level of the worse team after home advantage.
+	 */
+	protected static double share(double betterSkill, double worseSkill) {
+		return betterSkill / (betterSkill + worseSkill) - .5;
+	}
+
+	/**
+	 * Chance of overtime in this model.
+	 *
+	 * @param share        - share of the better team from share.
+	 * @param overtimeBase - chance of overtime between two even teams.
+	 */
+	protected double overtimeChance(double share, double overtimeBase) {
+		return overtimeBase - .4 * Math.pow(Math.abs(share), root);
+	}
+
+	/**
+	 * Chance the better team wins in this model.
+	 *
+	 * @param share - share of the better team from share.
+	 */
+	protected double winChance(double share) {
+		return Math.pow(share, root) + .5;
+	}
+
+	public String toString() {
+		return "root=" + root + ", homeAdv=" + homeAdvantage;
+	}
+}
@@ -0,0 +1,206 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class HeadToHeadMatrix {
+
+	// leagues with more teams keep only the pairs that have played in a hash table.
+	private static final int denseLimit = 1024;
+
+	private HashMap<Team, Integer> index;
+	private int size;
+	// row i, column j is what team i got against team j.
+	private int[] points;
+	private int[] results;
+	// pair of each cell as row * size + column, -1 if empty. Only for big leagues.
+	private long[] pairs;
+	private int amountOfPairs;
+
+	/**
+	 * Empty head to head records between every pair of teams.
+	 * 
+	 * @param teams - every team in the league.
+	 */
+	public HeadToHeadMatrix(ArrayList<Team> teams) {
+		size = teams.size();
+		index = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			index.put(teams.get(i), i);
+		}
+		if (size <= denseLimit) {
+			points = new int[size * size];
+			results = new int[size * size];
+		} else {
+			pairs = new long[1 << 12];
+			Arrays.fill(pairs, -1);
+			points = new int[pairs.length];
+			results = new int[pairs.length];
+		}
+	}
+
+	/**
+	 * Position of what team i got against team j in the arrays. Returns -1 if the
+	 * two teams haven't played and a cell is not being added.
+	 */
+	private int cell(int i, int j, boolean add) {
+		if (pairs == null) {
+			return i * size + j;
+		}
+		long pair = (long) i * size + j;
+		int mask = pairs.length - 1;
+		int at = (int) ((pair * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+		while (pairs[at] != -1) {
+			if (pairs[at] == pair) {
+				return at;
+			}
+			at = (at + 1) & mask;
+		}
+		if (!add) {
+			return -1;
+		}
+		if (2 * (amountOfPairs + 1) > pairs.length) {
+			grow();
+			return cell(i, j, true);
+		}
+		pairs[at] = pair;
+		amountOfPairs++;
+		return at;
+	}
+
+	/**
+	 * doubles the size of the hash table.
+	 */
+	private void grow() {
+		long[] oldPairs = pairs;
+		int[] oldPoints = points;
+		int[] oldResults = results;
+		pairs = new long[oldPairs.length * 2];
+		Arrays.fill(pairs, -1);
+		points = new int[pairs.length];
+		results = new int[pairs.length];
+		amountOfPairs = 0;
+		for (int k = 0; k < oldPairs.length; k++) {
+			if (oldPairs[k] != -1) {
+				int at = cell((int) (oldPairs[k] / size), (int) (oldPairs[k] % size), true);
+				points[at] = oldPoints[k];
+				results[at] = oldResults[k];
+			}
+		}
+	}
+
+	/**
+	 * points team i got against team j.
+	 */
+	private int points(int i, int j) {
+		int at = cell(i, j, false);
+		return at < 0 ? 0 : points[at];
+	}
+
+	/**
+	 * result codes team i got against team j.
+	 */
+	private int results(int i, int j) {
+		int at = cell(i, j, false);
+		return at < 0 ? 0 : results[at];
+	}
+
+	/**
+	 * Adds the result of a game that was just played. Only regular season games
+	 * should be added.
+	 * 
+	 * @param game - game that was played.
+	 */
+	protected void record(Game game) {
+		int home = index.get(game.home());
+		int away = index.get(game.away());
+		int homeResult = game.gameResult(game.home());
+		int at = cell(home, away, true);
+		points[at] += game.pointsEarned(homeResult);
+		results[at] += homeResult;
+		at = cell(away, home, true);
+		points[at] += game.pointsEarned(3 - homeResult);
+		results[at] += 3 - homeResult;
+	}
+
+	/**
+	 * points a team has earned against another team.
+	 * 
+	 * @param team    - team that earned the points.
+	 * @param against - team they played against.
+	 */
+	public int points(Team team, Team against) {
+		return points(index.get(team), index.get(against));
+	}
+
+	/**
+	 * amount of games played between two teams.
+	 */
+	public int games(Team t1, Team t2) {
+		int i = index.get(t1);
+		int j = index.get(t2);
+		// each game gives out 3 in result codes between the two teams.
+		return (results(i, j) + results(j, i)) / 3;
+	}
+
+	/**
+	 * determines the winner of the head to head matchups of two teams. Returns null
+	 * if they tied. They are first compared by points and then by regulation wins.
+	 * 
+	 * @param t1 - team 1 to compare.
+	 * @param t2 - team 2 to compare.
+	 * @return The team with more points against the other. Null if both teams tie.
+	 */
+	public Team winner(Team t1, Team t2) {
+		int i = index.get(t1);
+		int j = index.get(t2);
+		if (points(i, j) > points(j, i)) {
+			return t1;
+		} else if (points(i, j) < points(j, i)) {
+			return t2;
+		} else if (results(i, j) > results(j, i)) {
+			return t1;
+		} else if (results(i, j) < results(j, i)) {
+			return t2;
+		}
+		return null;
+	}
+
+	/**
+	 * given a list of teams, this shows the points percentage of each team facing
+	 * just the teams in this group. Only looks at each pair of teams once.
+	 * 
+	 * @param teams - list of teams
+	 * @return hashmap of teams to their points percentage against the other teams
+	 *         in this list.
+	 */
+	public HashMap<Team, double[]> percentages(ArrayList<Team> teams) {
+		int[] ids = new int[teams.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = index.get(teams.get(i));
+		}
+		HashMap<Team, double[]> map = new HashMap<>();
+		for (int i = 0; i < ids.length; i++) {
+			int pointCount = 0;
+			int secondaryPointCount = 0;
+			int resultCount = 0;
+			for (int j = 0; j < ids.length; j++) {
+				if (i == j) {
+					continue;
+				}
+				pointCount += points(ids[i], ids[j]);
+				secondaryPointCount += results(ids[i], ids[j]);
+				resultCount += results(ids[i], ids[j]) + results(ids[j], ids[i]);
+			}
+			int gameCount = resultCount / 3;
+			if (gameCount == 0) {
+				map.put(teams.get(i), new double[] { 0.0, 0.0 });
+			} else {
+				map.put(teams.get(i),
+						new double[] { (double) pointCount / gameCount, (double) secondaryPointCount / gameCount });
+			}
+		}
+		return map;
+	}
+}
@@ -1,9 +1,11 @@
 package sim;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 import java.util.Random;
@@ -16,6 +18,22 @@ public class League implements Group {
 	private int size;
 	private boolean seasonInSession;
 	private RegularSeason season;
+	private Tiebreaker tiebreaker = Tiebreaker.standard();
+	private long standingsVersion;
+	private final RenderCache standingsText = new RenderCache();
+	private final RenderCache conferenceStandingsText = new RenderCache();
+	private final RenderCache divisionalStandingsText = new RenderCache();
+	private HashMap<Team, String> playoffStatuses = new HashMap<>();
+	private long playoffStatusVersion = -1;
+	private volatile StandingsSnapshot published;
+	private GameLog gameLog;
+	private GameModel gameModel = GameModel.DEFAULT;
+	private Random random = new Random();
+	private GameLog.Replay playoffReplay;
+	private HashMap<String, Team> teamsByAbbreviation = new HashMap<>();
+	private HashMap<String, Team> teamsByName = new HashMap<>();
+	private HashMap<Team, Integer> teamIds = new HashMap<>();
+	private ArrayList<Team> teamsById = new ArrayList<>();
 
 	public League(String name) {
 		this.name = name;
@@ -57,8 +75,53 @@ public class League implements Group {
 	 * @param team - team to remove.
 	 */
 	protected void removeTeamLeague(Team team) {
+		if (removeFromIndexes(team)) {
+			removeFromStandings(team);
+			standingsChanged();
+		}
+	}
+
+	/**
+	 * Removes teams from the league at once. The standings list is rebuilt once
+	 * after every team is gone, instead of being shifted for each of them.
+	 * 
+	 * @param removed - teams to remove.
+	 */
+	protected void removeTeamsLeague(HashSet<Team> removed) {
+		boolean changed = false;
+		for (Team team : removed) {
+			changed |= removeFromIndexes(team);
+		}
+		if (!changed) {
+			return;
+		}
+		teams.removeIf(removed::contains);
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setLeagueSeedHint(i + 1);
+		}
+		standingsChanged();
+	}
+
+	/**
+	 * Takes a team out of the ids and names of the league.
+	 * 
+	 * @return false if the team is not in this league.
+	 */
+	private boolean removeFromIndexes(Team team) {
+		Integer id = teamIds.remove(team);
+		if (id == null) {
+			return false;
+		}
+		// the team with the last id takes the place of the removed team.
+		Team last = teamsById.remove(teamsById.size() - 1);
+		if (last != team) {
+			teamsById.set(id, last);
+			teamIds.put(last, id);
+		}
+		teamsByAbbreviation.remove(team.abbreviation());
+		teamsByName.remove(team.name());
 		size--;
-		teams.remove(team);
+		return true;
 	}
 
 	/**
@@ -80,9 +143,10 @@ public class League implements Group {
 	 */
 	protected void setConference(Conference conf) {
 		confs.add(conf);
-		for (Team t : conf.teams()) {
+		for (Team t : conf.liveTeams()) {
 			addTeam(t);
 		}
+		standingsChanged();
 	}
 
 	/**
@@ -92,11 +156,67 @@ public class League implements Group {
 	 */
 	protected void startSeason(RegularSeason regSeason) {
 		season = regSeason;
+		// in session first so the last published standings stay up until the new
+		// season publishes its own.
+		seasonInSession = true;
+		standingsChanged();
 		for (Team t : teams) {
 			t.newSeason();
-			t.games();
 		}
-		seasonInSession = true;
+	}
+
+	/**
+	 * Puts the teams of this league, each conference and each division back in
+	 * the given order. Used to make a league reused for another simulation match a
+	 * newly built one.
+	 * 
+	 * @param order - every team of this league.
+	 */
+	protected void restoreTeamOrder(ArrayList<Team> order) {
+		for (int i = 0; i < teams.size(); i++) {
+			teams.set(i, order.get(i));
+		}
+		for (Conference conf : confs) {
+			conf.liveTeams().clear();
+			for (Division div : conf.divisions()) {
+				div.liveTeams().clear();
+			}
+		}
+		for (Team t : order) {
+			t.conference().liveTeams().add(t);
+			t.division().liveTeams().add(t);
+		}
+	}
+
+	/**
+	 * Puts the league, conference and division standings in logged orders instead
+	 * of sorting them, so ties end up the way they were broken when the orders
+	 * were logged.
+	 * 
+	 * @param seeds - league, conference and division seed of every team of this
+	 *              league.
+	 */
+	protected void restoreStandings(HashMap<Team, int[]> seeds) {
+		teams.sort(Comparator.comparingInt(t -> seeds.get(t)[0]));
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setLeagueSeedHint(i + 1);
+		}
+		for (Conference conf : confs) {
+			ArrayList<Team> confTeams = conf.liveTeams();
+			confTeams.sort(Comparator.comparingInt(t -> seeds.get(t)[1]));
+			for (int i = 0; i < confTeams.size(); i++) {
+				confTeams.get(i).setConferenceSeedHint(i + 1);
+			}
+			for (Division div : conf.divisions()) {
+				ArrayList<Team> divTeams = div.liveTeams();
+				divTeams.sort(Comparator.comparingInt(t -> seeds.get(t)[2]));
+				for (int i = 0; i < divTeams.size(); i++) {
+					divTeams.get(i).setDivisionSeedHint(i + 1);
+				}
+			}
+		}
+		standingsChanged();
+		publishStandings();
 	}
 
 	/**
@@ -106,18 +226,295 @@ public class League implements Group {
 		seasonInSession = false;
 	}
 
+	/**
+	 * Every game this league plays from now on is added to the end of the log,
+	 * along with the state of each team before and after each season. null stops
+	 * logging.
+	 * 
+	 * @param log - log to add to.
+	 */
+	public void setGameLog(GameLog log) {
+		gameLog = log;
+	}
+
+	/**
+	 * log games are being added to. null if there is none.
+	 */
+	public GameLog gameLog() {
+		return gameLog;
+	}
+
+	/**
+	 * model every game of this league is decided with.
+	 */
+	public GameModel gameModel() {
+		return gameModel;
+	}
+
+	/**
+	 * Decides every game of this league played from now on with a different model.
+	 * Other leagues are not changed.
+	 * 
+	 * @param model - model to use.
+	 */
+	public void setGameModel(GameModel model) {
+		gameModel = model;
+	}
+
+	/**
+	 * Random number generator for everything in this league that is not a regular
+	 * season game: skill changes before and after the season, ties that are broken
+	 * randomly and playoff games. A seeded season replaces it with a seeded one.
+	 */
+	protected Random random() {
+		return random;
+	}
+
+	/**
+	 * replaces the random number generator of this league.
+	 */
+	protected void setRandom(Random rng) {
+		random = rng;
+	}
+
+	/**
+	 * logged playoff games being replayed instead of simulated. null if there are
+	 * none.
+	 */
+	protected GameLog.Replay playoffReplay() {
+		return playoffReplay;
+	}
+
+	protected void setPlayoffReplay(GameLog.Replay replay) {
+		playoffReplay = replay;
+	}
+
+	/**
+	 * adds the state of every team to the log if there is one.
+	 */
+	protected void logTeamStates() {
+		if (gameLog != null) {
+			for (Team t : teams) {
+				gameLog.recordState(t, season.year());
+			}
+		}
+	}
+
+	/**
+	 * Standings as of the last time they were published. During a season a new
+	 * snapshot is published when the season starts, every time the standings are
+	 * updated, when the regular season ends and when the playoffs end. Nothing in a
+	 * snapshot ever changes, so this can be read from any thread while the season
+	 * is being simulated on another. Outside a season the teams can only change
+	 * through this league's own methods, so a snapshot is made from them when
+	 * something changed since the last one.
+	 */
+	public StandingsSnapshot publishedStandings() {
+		StandingsSnapshot snapshot = published;
+		if (snapshot == null) {
+			publishStandings();
+			snapshot = published;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * copies the current standings and makes them the published standings.
+	 */
+	protected void publishStandings() {
+		if (season == null) {
+			published = new StandingsSnapshot(0, null, 0, this);
+			return;
+		}
+		int day = season.currentDay();
+		published = new StandingsSnapshot(day, season.date(day), season.gamesPlayed(), this);
+	}
+
+	/**
+	 * Version of the standings. It changes whenever anything shown in the
+	 * standings changes. It is only meant for the thread simulating this league;
+	 * other threads should use the version of the published standings.
+	 */
+	public long standingsVersion() {
+		return standingsVersion;
+	}
+
+	/**
+	 * Something shown in the standings changed. Outside a season the published
+	 * standings are dropped so the next reader gets the change.
+	 */
+	protected void standingsChanged() {
+		standingsVersion++;
+		if (!seasonInSession) {
+			published = null;
+		}
+	}
+
+	/**
+	 * Playoff marker shown next to a team in the standings. The markers for every
+	 * team are found together once per standings version.
+	 * 
+	 * @param team - team in this league.
+	 * @return " out", "-z*", "-z", "-y", "-x" or "" in the same way as
+	 *         outOfPlayoffs, clinchedPresidentsTrophy, clinchedConference,
+	 *         clinchedDivision and clinchedPlayoffs.
+	 */
+	protected synchronized String playoffStatus(Team team) {
+		if (playoffStatusVersion != standingsVersion || !playoffStatuses.containsKey(team)) {
+			updatePlayoffStatuses();
+			playoffStatusVersion = standingsVersion;
+		}
+		return playoffStatuses.get(team);
+	}
+
+	/**
+	 * Finds the playoff marker of every team. Each conference is gone through once
+	 * and the counts of teams above or below a point total are found with binary
+	 * searches over sorted point totals, instead of going through the conference
+	 * for every team.
+	 */
+	private void updatePlayoffStatuses() {
+		HashMap<Team, String> statuses = new HashMap<>();
+		boolean seasonOver = season != null && season.seasonOver();
+		Team presidentsTrophy = null;
+		if (!teams.isEmpty() && clinchedFirst(leader(), teams, seasonOver)) {
+			presidentsTrophy = leader();
+		}
+		for (Conference conf : confs) {
+			ArrayList<Team> confTeams = conf.liveTeams();
+			int n = confTeams.size();
+			int playoffLine = conf.amountOfPlayoffTeams();
+			int[] nonLeaderPoints = new int[n];
+			int[] nonLeaderMaxPoints = new int[n];
+			int nonLeaders = 0;
+			for (Team t : confTeams) {
+				if (t != t.division().leader()) {
+					nonLeaderPoints[nonLeaders] = t.points();
+					nonLeaderMaxPoints[nonLeaders] = t.maxPossiblePoints();
+					nonLeaders++;
+				}
+			}
+			Arrays.sort(nonLeaderPoints, 0, nonLeaders);
+			Arrays.sort(nonLeaderMaxPoints, 0, nonLeaders);
+			Team confLeader = null;
+			if (n > 0 && clinchedFirst(conf.leader(), confTeams, seasonOver)) {
+				confLeader = conf.leader();
+			}
+			for (int i = 0; i < n; i++) {
+				Team t = confTeams.get(i);
+				int seed = i + 1;
+				String status = "";
+				if (outOfPlayoffs(t, seed, playoffLine, seasonOver, nonLeaderPoints, nonLeaders)) {
+					status = " out";
+				} else if (t == presidentsTrophy) {
+					status = "-z*";
+				} else if (t == confLeader) {
+					status = "-z";
+				} else if (t == t.division().leader() && clinchedFirst(t, t.division().liveTeams(), seasonOver)) {
+					status = "-y";
+				} else if (clinchedPlayoffs(t, seed, playoffLine, n, seasonOver, nonLeaderMaxPoints, nonLeaders)) {
+					status = "-x";
+				}
+				statuses.put(t, status);
+			}
+		}
+		playoffStatuses = statuses;
+	}
+
+	/**
+	 * same as clinchedPresidentsTrophy, clinchedConference and clinchedDivision for
+	 * the leader of a group.
+	 */
+	private boolean clinchedFirst(Team leader, ArrayList<Team> group, boolean seasonOver) {
+		if (group.size() < 2) {
+			return true;
+		}
+		if (!leader.hasSchedule()) {
+			return false;
+		}
+		if (seasonOver) {
+			return true;
+		}
+		for (Team t : group) {
+			if (leader != t && t.maxPossiblePoints() > leader.points()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * same as outOfPlayoffs. The points of teams that are not division leaders are
+	 * sorted.
+	 */
+	private boolean outOfPlayoffs(Team team, int seed, int playoffLine, boolean seasonOver, int[] nonLeaderPoints,
+			int nonLeaders) {
+		if (!team.hasSchedule() || playoffLine >= seed) {
+			return false;
+		}
+		if (seasonOver) {
+			return true;
+		}
+		int mostPossiblePoints = team.maxPossiblePoints();
+		int countTeams = nonLeaders - countAtMost(nonLeaderPoints, nonLeaders, mostPossiblePoints);
+		return mostPossiblePoints < team.division().leader().points()
+				&& countTeams >= playoffLine - team.conference().divisions().size();
+	}
+
+	/**
+	 * same as clinchedPlayoffs. The most possible points of teams that are not
+	 * division leaders are sorted.
+	 */
+	private boolean clinchedPlayoffs(Team team, int seed, int playoffLine, int confSize, boolean seasonOver,
+			int[] nonLeaderMaxPoints, int nonLeaders) {
+		if (playoffLine >= confSize) {
+			return true;
+		}
+		if (!team.hasSchedule() || playoffLine < seed) {
+			return false;
+		}
+		if (seasonOver) {
+			return true;
+		}
+		int count = countAtMost(nonLeaderMaxPoints, nonLeaders, team.points() - 1);
+		return count >= confSize - playoffLine;
+	}
+
+	/**
+	 * amount of values that are less than or equal to a value in the first part of
+	 * a sorted array.
+	 */
+	private static int countAtMost(int[] sorted, int length, int value) {
+		int lo = 0;
+		int hi = length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (sorted[mid] <= value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
 	/**
 	 * standings of each of the two conferences in the league.
 	 */
 	public String conferenceStandings() {
-		String str = season.year() + "-" + (season.year() + 1) + " " + name + " Conference Standings\n";
+		StandingsSnapshot snapshot = publishedStandings();
+		return conferenceStandingsText.get(snapshot.version(), () -> renderConferenceStandings(snapshot));
+	}
+
+	private String renderConferenceStandings(StandingsSnapshot snapshot) {
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name + " Conference Standings\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "/";
 		}
 		str += "\nDivision Rank\tConference Rank\tLeague Rank\tTeam\tW-L-OTL\tPoints\tWinning%\tRegulation Wins\tSeason Result"; 
 		for (Conference conf : confs) {
-			str += "\n\n" + conf.standings();
+			str += "\n\n" + conf.standings(snapshot);
 		}
 		str += "\n";
 		return str;
@@ -131,14 +528,19 @@ public class League implements Group {
 	 * standings of each division in the league.
 	 */
 	public String divisionalStandings() {
-		String str = season.year() + "-" + (season.year() + 1) + " " + name + " Conference Standings\n";
+		StandingsSnapshot snapshot = publishedStandings();
+		return divisionalStandingsText.get(snapshot.version(), () -> renderDivisionalStandings(snapshot));
+	}
+
+	private String renderDivisionalStandings(StandingsSnapshot snapshot) {
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name + " Conference Standings\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "/";
 		}
 		str += "\n";
 		for (Conference conf : confs) {
-			str += "\n\n" + conf.divisionalStandings();
+			str += "\n\n" + conf.divisionalStandings(snapshot);
 		}
 		str += "\n";
 		return str;
@@ -166,23 +568,23 @@ public class League implements Group {
 	 * updates standings of the entire league.
 	 */
 	protected void updateStandings() {
+		long start = System.nanoTime();
 		int seed = 1;
-		PriorityQueue<Team> queue = new PriorityQueue<Team>((x, y) -> y.compareTo(x));
 		for (Conference conf : confs) {
 			conf.updateStandings();
-			queue.add(conf.leader());
-		}
-		while (!queue.isEmpty()) {
-			Team nextTeam = queue.poll();
-			teams.set(seed - 1, nextTeam);
-			Conference conf = nextTeam.conference();
-			if (nextTeam != conf.last()) {
-				queue.add(conf.teams().get(nextTeam.conferenceSeeding()));
+			for (Team t : conf.liveTeams()) {
+				teams.set(seed - 1, t);
+				seed++;
 			}
-			seed++;
 		}
 		tieBreakCheck(teams);
 		Collections.reverse(teams);
+		for (int i = 0; i < teams.size(); i++) {
+			teams.get(i).setLeagueSeedHint(i + 1);
+		}
+		standingsChanged();
+		publishStandings();
+		SimulationMetrics.get().standingsUpdated(System.nanoTime() - start);
 	}
 
 	/**
@@ -193,23 +595,26 @@ public class League implements Group {
 	 * @param teams - all teams in the division.
 	 */
 	private void tieBreakCheck(ArrayList<Team> teams) {
-		Collections.sort(teams, (x, y) -> x.compareTo(y));
+		long[] keys = tiebreaker.sort(teams, false);
 		for (int i = 0; i < teams.size() - 1; i++) {
-			if (teams.get(i).compareTo(teams.get(i + 1)) == 0) {
+			if (keys[i] == keys[i + 1]) {
 				int numberOfTies = 2;
-				while (i + numberOfTies < teams.size() && teams.get(i).compareTo(teams.get(i + numberOfTies)) == 0) {
+				while (i + numberOfTies < teams.size() && keys[i] == keys[i + numberOfTies]) {
 					numberOfTies++;
 				}
 				ArrayList<Team> tiedTeams = new ArrayList<>();
 				for (int j = 0; j < numberOfTies; j++) {
 					tiedTeams.add(teams.get(i + j));
 				}
+				boolean drawn = true;
 				if (regularSeason() != null) {
-					trueTieBreakCheck(tiedTeams);
+					drawn = trueTieBreakCheck(tiedTeams);
 				} else {
-					Collections.shuffle(tiedTeams);
+					Collections.shuffle(tiedTeams, random);
 					sameDivisionCheck(tiedTeams);
 				}
+				SimulationMetrics.get().tiebreak(drawn);
+				SimulationEvents.tiebreak(name, numberOfTies, 1, drawn);
 				for (int j = 0; j < numberOfTies; j++) {
 					teams.set(i + j, tiedTeams.get(j));
 				}
@@ -237,8 +642,10 @@ public class League implements Group {
 	 * choosing randomly.
 	 * 
 	 * @param tiedTeams - teams that are tied beyond the tie breaker.
+	 * @return true if any teams were still tied after head to head.
 	 */
-	private void trueTieBreakCheck(ArrayList<Team> tiedTeams) {
+	private boolean trueTieBreakCheck(ArrayList<Team> tiedTeams) {
+		boolean drawn = false;
 		HashMap<Team, double[]> map = regularSeason().headToHead(tiedTeams);
 		regularSeason().pointTieCheck(map, tiedTeams);
 		for (int i = 0; i < tiedTeams.size() - 1; i++) {
@@ -253,33 +660,55 @@ public class League implements Group {
 					subTies.add(tiedTeams.get(i + j));
 				}
 				// no more tiebreaker so now it is just random.
-				Collections.shuffle(subTies);
+				Collections.shuffle(subTies, random);
 				sameDivisionCheck(subTies);
+				SimulationEvents.tiebreak(name, numberOfTies, 2, true);
+				drawn = true;
 				for (int j = 0; j < numberOfTies; j++) {
 					tiedTeams.set(i + j, subTies.get(j));
 				}
 				i += numberOfTies - 1;
 			}
 		}
+		return drawn;
 	}
 
 	private void sameDivisionCheck(ArrayList<Team> tiedTeams) {
-		ArrayList<ArrayList<Team>> arr = new ArrayList<>();
-		for (int i = 0; i < divisions().size(); i++) {
-			arr.add(new ArrayList<>());
-		}
+		HashMap<Division, ArrayList<Team>> arr = new HashMap<>();
 		for (Team t : tiedTeams) {
-			arr.get(divisions().indexOf(t.division())).add(t);
+			arr.computeIfAbsent(t.division(), d -> new ArrayList<>()).add(t);
 		}
-		for (ArrayList<Team> ars : arr) {
+		for (ArrayList<Team> ars : arr.values()) {
 			Collections.sort(ars, (x, y) -> x.divisionSeeding() - y.divisionSeeding());
 		}
 		for (int i = 0; i < tiedTeams.size(); i++) {
-			ArrayList<Team> divOfTeam = arr.get(divisions().indexOf(tiedTeams.get(i).division()));
+			ArrayList<Team> divOfTeam = arr.get(tiedTeams.get(i).division());
 			tiedTeams.set(i, divOfTeam.remove(divOfTeam.size() - 1));
 		}
 	}
 
+	/**
+	 * steps used to order teams with the same points.
+	 */
+	public Tiebreaker tiebreaker() {
+		return tiebreaker;
+	}
+
+	/**
+	 * Changes the steps used to order teams in the standings. This cannot be
+	 * changed while the season is in session.
+	 * 
+	 * @param tiebreaker - new tiebreaker steps.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean setTiebreaker(Tiebreaker tiebreaker) {
+		if (seasonInSession) {
+			return false;
+		}
+		this.tiebreaker = tiebreaker;
+		return true;
+	}
+
 	/**
 	 * all conferences in the league.
 	 */
@@ -295,12 +724,12 @@ public class League implements Group {
 	 * @return array with all the teams in the conference.
 	 */
 	private ArrayList<Team> copyTeamsOver(Conference con) {
-		ArrayList<Team> confTeams = con.teams();
+		ArrayList<Team> confTeams = con.liveTeams();
 		ArrayList<Team> copy = new ArrayList<>();
 		for (int i = 0; i < confTeams.size(); i++) {
 			copy.add(confTeams.get(i));
 		}
-		Collections.sort(copy, (x, y) -> y.compareTo(x));
+		tiebreaker.sort(copy, true);
 		return copy;
 	}
 
@@ -319,15 +748,138 @@ public class League implements Group {
 	 * @param team - team to add to league.
 	 */
 	protected void addTeam(Team team) {
-		teams.add(team);
-		size++;
+		if (!teamIds.containsKey(team)) {
+			teamIds.put(team, teamsById.size());
+			teamsById.add(team);
+			teamsByAbbreviation.put(team.abbreviation(), team);
+			teamsByName.put(team.name(), team);
+			teams.add(team);
+			size++;
+		}
+		standingsChanged();
 	}
 
 	/**
-	 * list of all the teams in the league listed in order of point percentage.
+	 * Checks that no other team in the league has a name or abbreviation.
+	 * 
+	 * @param team         - team being named, or null for a new team.
+	 * @param name         - name to check.
+	 * @param abbreviation - abbreviation to check.
+	 * @throws IllegalArgumentException - throws exception if another team has the
+	 *                                  name or abbreviation.
+	 */
+	protected void checkNames(Team team, String name, String abbreviation) throws IllegalArgumentException {
+		Team withAbbreviation = teamsByAbbreviation.get(abbreviation);
+		Team withName = teamsByName.get(name);
+		if (withAbbreviation == team) {
+			withAbbreviation = null;
+		}
+		if (withName == team) {
+			withName = null;
+		}
+		if (withAbbreviation != null && withAbbreviation == withName) {
+			throw new IllegalArgumentException("A team with the name \"" + name + "\" and abbreviation \""
+					+ abbreviation + "\" already exists. Give this team another name and abbreviation.");
+		} else if (withAbbreviation != null) {
+			throw new IllegalArgumentException("A team with the abbreviation \"" + abbreviation
+					+ "\" already exists. Give this team another abbreviation.");
+		} else if (withName != null) {
+			throw new IllegalArgumentException(
+					"A team with the name \"" + name + "\" already exists. Give this team another name.");
+		}
+	}
+
+	/**
+	 * Moves a team to a new name and abbreviation in the indexes of this league.
+	 * 
+	 * @param team         - team being renamed.
+	 * @param name         - new name.
+	 * @param abbreviation - new abbreviation.
+	 * @throws IllegalArgumentException - throws exception if another team has the
+	 *                                  name or abbreviation.
+	 */
+	protected void renameTeam(Team team, String name, String abbreviation) throws IllegalArgumentException {
+		if (!teamIds.containsKey(team)) {
+			return;
+		}
+		checkNames(team, name, abbreviation);
+		teamsByAbbreviation.remove(team.abbreviation());
+		teamsByName.remove(team.name());
+		teamsByAbbreviation.put(abbreviation, team);
+		teamsByName.put(name, team);
+	}
+
+	/**
+	 * Finds the team with an abbreviation. Throws NoSuchElementException if there
+	 * is no such team in this league.
+	 */
+	public Team teamWithAbbreviation(String abbreviation) throws NoSuchElementException {
+		Team team = teamsByAbbreviation.get(abbreviation);
+		if (team == null) {
+			throw new NoSuchElementException("There is no team \"" + abbreviation + "\" in the " + name + " league.");
+		}
+		return team;
+	}
+
+	/**
+	 * Finds the team with a name. Throws NoSuchElementException if there is no such
+	 * team in this league.
+	 */
+	public Team teamWithName(String name) throws NoSuchElementException {
+		Team team = teamsByName.get(name);
+		if (team == null) {
+			throw new NoSuchElementException("There are no " + name + " in the " + this.name + " league.");
+		}
+		return team;
+	}
+
+	/**
+	 * whether a team is in this league.
+	 */
+	public boolean hasTeam(Team team) {
+		return teamIds.containsKey(team);
+	}
+
+	/**
+	 * Number of a team from 0 to one less than the amount of teams. A team keeps
+	 * its number when it changes division, but when a team is removed the team with
+	 * the highest number takes its number. Throws NoSuchElementException if the
+	 * team is not in this league.
+	 */
+	public int teamId(Team team) throws NoSuchElementException {
+		Integer id = teamIds.get(team);
+		if (id == null) {
+			throw new NoSuchElementException(
+					"The " + team.city() + " " + team.name() + " are not in the " + this.name + " league.");
+		}
+		return id;
+	}
+
+	/**
+	 * Finds the team with a number. Throws IndexOutOfBoundsException if it is not
+	 * a valid number.
+	 */
+	public Team teamWithId(int id) throws IndexOutOfBoundsException {
+		if (id < 0 || id >= teamsById.size()) {
+			throw new IndexOutOfBoundsException(id + " is not a valid team number.");
+		}
+		return teamsById.get(id);
+	}
+
+	/**
+	 * Teams of the league in order of the published standings. The list is a copy,
+	 * so it can be read from any thread while the season is simulated.
 	 */
 	@Override
 	public ArrayList<Team> teams() {
+		return publishedStandings().teams();
+	}
+
+	/**
+	 * Standings list of the league, changed as the season is simulated. Only for
+	 * the thread simulating this league.
+	 */
+	protected ArrayList<Team> liveTeams() {
 		return teams;
 	}
 
@@ -344,13 +896,18 @@ public class League implements Group {
 	 */
 	@Override
 	public String standings() {
-		String str = season.year() + "-" + (season.year() + 1) + " " + name + " Standings\n";
+		StandingsSnapshot snapshot = publishedStandings();
+		return standingsText.get(snapshot.version(), () -> renderStandings(snapshot));
+	}
+
+	private String renderStandings(StandingsSnapshot snapshot) {
+		String str = snapshot.year() + "-" + (snapshot.year() + 1) + " " + name + " Standings\n";
 		int amountOfChar = str.length();
 		for (int i = 0; i < amountOfChar - 1; i++) {
 			str += "/";
 		}
-		for (int i = 0; i < size; i++) {
-			str += "\n" + teams.get(i).toString();
+		for (int seed = 1; seed <= snapshot.size(); seed++) {
+			str += "\n" + snapshot.standingsLine(snapshot.seedingOfTeam(seed));
 		}
 		str += "\n";
 		return str;
@@ -362,6 +919,7 @@ public class League implements Group {
 				t.madePlayoffs();
 			}
 		}
+		standingsChanged();
 	}
 
 	/**
@@ -370,14 +928,46 @@ public class League implements Group {
 	 */
 	@Override
 	public int seedingOfTeam(Team team) throws NoSuchElementException {
-		int seed = teams.indexOf(team) + 1;
+		int seed = position(team) + 1;
 		if (seed == 0) {
 			throw new NoSuchElementException(
 					"The " + team.city() + " " + team.name() + " are not in the " + this.name + " league.");
 		}
+		team.setLeagueSeedHint(seed);
 		return seed;
 	}
 
+	/**
+	 * position of a team in the standings list, -1 if it is not in this league. The
+	 * team's last known seed is checked before searching the list.
+	 */
+	private int position(Team team) {
+		int seed = team.leagueSeedHint();
+		if (seed >= 1 && seed <= teams.size() && teams.get(seed - 1) == team) {
+			return seed - 1;
+		}
+		return teams.indexOf(team);
+	}
+
+	/**
+	 * Takes a team out of the standings list. Teams after it move up one seed and
+	 * their last known seeds are moved with them, so the next team removed is found
+	 * without searching the list.
+	 * 
+	 * @return false if the team is not in this league.
+	 */
+	private boolean removeFromStandings(Team team) {
+		int index = position(team);
+		if (index < 0) {
+			return false;
+		}
+		teams.remove(index);
+		for (int i = index; i < teams.size(); i++) {
+			teams.get(i).setLeagueSeedHint(i + 1);
+		}
+		return true;
+	}
+
 	/**
 	 * Finds the team at a specified seed. Throws IndexOutOfBoundsException if it is
 	 * an invalid seeding (<1 or >division size).
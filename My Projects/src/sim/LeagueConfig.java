@@ -0,0 +1,325 @@
+package sim;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+
+public class LeagueConfig {
+
+	private final LeagueTopology topology;
+	// skill level of each team, NaN if it is chosen when the league is made.
+	private final double[] skills;
+	// power ranking used to choose the skill level, 0 if there is none.
+	private final int[] ranks;
+	private final char playoffType;
+	// kind of matchups and amount of games at each home for each schedule rule.
+	private final ArrayList<String> scheduleRules;
+	private final ArrayList<Integer> gamesPerRule;
+	// away and home team of each extra game.
+	private final ArrayList<int[]> extraGames;
+
+	/**
+	 * Reads a league from a configuration file. Each line is a key, a colon and
+	 * values separated by commas. Divisions go in the conference above them and
+	 * teams go in the division above them.
+	 * 
+	 * <pre>
+	 * league: NHL
+	 * playoffs: R
+	 * model: 0.6, 1.15
+	 * conference: East, 4, 1, p
+	 * division: East
+	 * team: Boston, Bruins, BOS, rank 9
+	 * schedule: division, 4
+	 * game: CGY, EDM
+	 * </pre>
+	 * 
+	 * A conference has its name, amount of playoff teams, playoff teams per
+	 * division and playoff structure in the same way as the Conference
+	 * constructor. A team has its city, name, abbreviation and optionally a skill
+	 * level or "rank" and a power ranking. Without either, the skill level is
+	 * random. A schedule rule has division, conference or league and the amount of
+	 * games each pair of teams in the same group plays at each home. A game has
+	 * the abbreviations of an extra away and home team. A model has the root and
+	 * home advantage of the game model, which is GameModel.DEFAULT without one.
+	 * The skill files of Calibration.writeSkills use the same team and model
+	 * lines. Blank lines and lines starting with # are skipped.
+	 * 
+	 * @param fileName - path of the configuration file.
+	 * @throws IOException              - throws exception if the file can't be
+	 *                                  read.
+	 * @throws IllegalArgumentException - throws exception if the file is not a
+	 *                                  valid league.
+	 */
+	public static LeagueConfig read(String fileName) throws IOException, IllegalArgumentException {
+		try (Reader reader = new FileReader(fileName)) {
+			return new LeagueConfig(reader, fileName);
+		}
+	}
+
+	/**
+	 * Reads a league configuration that is kept next to the classes of this
+	 * package, like league2021.txt.
+	 * 
+	 * @param name - file name of the configuration.
+	 * @throws IOException              - throws exception if there is no such
+	 *                                  configuration.
+	 * @throws IllegalArgumentException - throws exception if it is not a valid
+	 *                                  league.
+	 */
+	public static LeagueConfig resource(String name) throws IOException, IllegalArgumentException {
+		InputStream in = LeagueConfig.class.getResourceAsStream(name);
+		if (in == null) {
+			throw new IOException("There is no league configuration called " + name + ".");
+		}
+		try (Reader reader = new InputStreamReader(in)) {
+			return new LeagueConfig(reader, name);
+		}
+	}
+
+	private LeagueConfig(Reader reader, String source) throws IOException, IllegalArgumentException {
+		String leagueName = null;
+		char playoffs = 'R';
+		GameModel gameModel = GameModel.DEFAULT;
+		ArrayList<String> conferenceNames = new ArrayList<>();
+		ArrayList<int[]> conferencePlayoffs = new ArrayList<>();
+		ArrayList<Character> structures = new ArrayList<>();
+		ArrayList<String> divisionNames = new ArrayList<>();
+		ArrayList<Integer> conferenceOfDivision = new ArrayList<>();
+		ArrayList<String> cities = new ArrayList<>();
+		ArrayList<String> teamNames = new ArrayList<>();
+		ArrayList<String> abbreviations = new ArrayList<>();
+		ArrayList<Integer> divisionOfTeam = new ArrayList<>();
+		ArrayList<Double> skillList = new ArrayList<>();
+		ArrayList<Integer> rankList = new ArrayList<>();
+		HashSet<String> usedConferences = new HashSet<>();
+		HashSet<String> usedDivisions = new HashSet<>();
+		HashSet<String> usedNames = new HashSet<>();
+		HashMap<String, Integer> teamOfAbbreviation = new HashMap<>();
+		scheduleRules = new ArrayList<>();
+		gamesPerRule = new ArrayList<>();
+		extraGames = new ArrayList<>();
+		BufferedReader in = new BufferedReader(reader);
+		String line;
+		int lineNumber = 0;
+		while ((line = in.readLine()) != null) {
+			lineNumber++;
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			String where = "Line " + lineNumber + " of " + source;
+			int colon = line.indexOf(':');
+			if (colon < 0) {
+				throw new IllegalArgumentException(where + " has no key.");
+			}
+			String key = line.substring(0, colon).trim().toLowerCase();
+			String[] values = line.substring(colon + 1).split(",");
+			for (int i = 0; i < values.length; i++) {
+				values[i] = values[i].trim();
+			}
+			try {
+				if (key.equals("league")) {
+					leagueName = values[0];
+				} else if (key.equals("playoffs")) {
+					playoffs = values[0].charAt(0);
+				} else if (key.equals("model")) {
+					expect(values, 2, where);
+					double root = Double.parseDouble(values[0]);
+					double homeAdvantage = Double.parseDouble(values[1]);
+					if (!(root > 0) || !(homeAdvantage > 0)) {
+						throw new IllegalArgumentException(where + " has a root or home advantage that is not positive.");
+					}
+					gameModel = new GameModel(root, homeAdvantage);
+				} else if (key.equals("conference")) {
+					expect(values, 4, where);
+					if (!usedConferences.add(values[0])) {
+						throw new IllegalArgumentException(where + " has a conference that already exists.");
+					}
+					conferenceNames.add(values[0]);
+					conferencePlayoffs.add(new int[] { Integer.parseInt(values[1]), Integer.parseInt(values[2]) });
+					structures.add(values[3].charAt(0));
+				} else if (key.equals("division")) {
+					expect(values, 1, where);
+					if (conferenceNames.isEmpty()) {
+						throw new IllegalArgumentException(where + " has a division before any conference.");
+					}
+					if (!usedDivisions.add(values[0])) {
+						throw new IllegalArgumentException(where + " has a division that already exists.");
+					}
+					divisionNames.add(values[0]);
+					conferenceOfDivision.add(conferenceNames.size() - 1);
+				} else if (key.equals("team")) {
+					if (values.length < 3 || values.length > 4) {
+						throw new IllegalArgumentException(where + " needs 3 or 4 values.");
+					}
+					if (divisionNames.isEmpty()) {
+						throw new IllegalArgumentException(where + " has a team before any division.");
+					}
+					if (!usedNames.add(values[1])) {
+						throw new IllegalArgumentException(where + " has a team name that already exists.");
+					}
+					if (teamOfAbbreviation.putIfAbsent(values[2], abbreviations.size()) != null) {
+						throw new IllegalArgumentException(where + " has an abbreviation that already exists.");
+					}
+					cities.add(values[0]);
+					teamNames.add(values[1]);
+					abbreviations.add(values[2]);
+					divisionOfTeam.add(divisionNames.size() - 1);
+					if (values.length == 3) {
+						skillList.add(Double.NaN);
+						rankList.add(0);
+					} else if (values[3].startsWith("rank")) {
+						skillList.add(Double.NaN);
+						rankList.add(Integer.parseInt(values[3].substring(4).trim()));
+					} else {
+						skillList.add(Double.parseDouble(values[3]));
+						rankList.add(0);
+					}
+				} else if (key.equals("schedule")) {
+					expect(values, 2, where);
+					String rule = values[0].toLowerCase();
+					if (!rule.equals("division") && !rule.equals("conference") && !rule.equals("league")) {
+						throw new IllegalArgumentException(where + " has an unknown schedule rule.");
+					}
+					scheduleRules.add(rule);
+					gamesPerRule.add(Integer.parseInt(values[1]));
+				} else if (key.equals("game")) {
+					expect(values, 2, where);
+					Integer awayTeam = teamOfAbbreviation.get(values[0]);
+					Integer homeTeam = teamOfAbbreviation.get(values[1]);
+					if (awayTeam == null || homeTeam == null || awayTeam.equals(homeTeam)) {
+						throw new IllegalArgumentException(where + " is not a game between two teams in the league.");
+					}
+					extraGames.add(new int[] { awayTeam, homeTeam });
+				} else {
+					throw new IllegalArgumentException(where + " has an unknown key \"" + key + "\".");
+				}
+			} catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+				throw new IllegalArgumentException(where + " has an invalid value.");
+			}
+		}
+		if (leagueName == null) {
+			throw new IllegalArgumentException(source + " does not name the league.");
+		}
+		int[] playoffTeams = new int[conferenceNames.size()];
+		int[] playoffTeamsPerDivision = new int[conferenceNames.size()];
+		char[] playoffStructures = new char[conferenceNames.size()];
+		for (int i = 0; i < playoffTeams.length; i++) {
+			playoffTeams[i] = conferencePlayoffs.get(i)[0];
+			playoffTeamsPerDivision[i] = conferencePlayoffs.get(i)[1];
+			playoffStructures[i] = structures.get(i);
+		}
+		skills = new double[abbreviations.size()];
+		ranks = new int[abbreviations.size()];
+		for (int i = 0; i < skills.length; i++) {
+			skills[i] = skillList.get(i);
+			ranks[i] = rankList.get(i);
+		}
+		playoffType = playoffs;
+		topology = new LeagueTopology(leagueName, conferenceNames.toArray(new String[0]), playoffTeams,
+				playoffTeamsPerDivision, playoffStructures, divisionNames.toArray(new String[0]),
+				toArray(conferenceOfDivision), cities.toArray(new String[0]), teamNames.toArray(new String[0]),
+				abbreviations.toArray(new String[0]), toArray(divisionOfTeam), gameModel);
+	}
+
+	private static void expect(String[] values, int amount, String where) throws IllegalArgumentException {
+		if (values.length != amount) {
+			throw new IllegalArgumentException(where + " needs " + amount + " values.");
+		}
+	}
+
+	private static int[] toArray(ArrayList<Integer> list) {
+		int[] arr = new int[list.size()];
+		for (int i = 0; i < arr.length; i++) {
+			arr[i] = list.get(i);
+		}
+		return arr;
+	}
+
+	/**
+	 * conferences, divisions and teams of the league.
+	 */
+	public LeagueTopology topology() {
+		return topology;
+	}
+
+	/**
+	 * type of playoffs to use with Playoffs.
+	 */
+	public char playoffType() {
+		return playoffType;
+	}
+
+	/**
+	 * Makes a new league where no games have been played. Teams without a set skill
+	 * level get a new random one each time.
+	 */
+	public League league() {
+		Random rng = new Random();
+		double[] leagueSkills = new double[skills.length];
+		for (int i = 0; i < skills.length; i++) {
+			if (!Double.isNaN(skills[i])) {
+				leagueSkills[i] = skills[i];
+			} else if (ranks[i] > 0) {
+				leagueSkills[i] = Simulation.orderStatistic(ranks[i]);
+			} else {
+				leagueSkills[i] = Team.mean + Team.std * rng.nextGaussian();
+			}
+		}
+		return topology.build(leagueSkills);
+	}
+
+	/**
+	 * Makes a regular season schedule for a league made from this configuration
+	 * using its schedule rules and extra games, in a random order.
+	 * 
+	 * @param league - league made from this configuration.
+	 * @throws IllegalArgumentException - throws exception if the league doesn't
+	 *                                  have the teams of this configuration.
+	 */
+	public ArrayList<Game> schedule(League league) throws IllegalArgumentException {
+		ArrayList<Team> teams = topology.teamOrder(league);
+		ArrayList<Game> games = new ArrayList<>();
+		for (int r = 0; r < scheduleRules.size(); r++) {
+			String rule = scheduleRules.get(r);
+			int amount = gamesPerRule.get(r);
+			for (int h = 0; h < teams.size(); h++) {
+				for (int a = 0; a < teams.size(); a++) {
+					if (a != h && sameGroup(rule, a, h)) {
+						for (int k = 0; k < amount; k++) {
+							games.add(new Game(teams.get(a), teams.get(h), 'R'));
+						}
+					}
+				}
+			}
+		}
+		for (int[] game : extraGames) {
+			games.add(new Game(teams.get(game[0]), teams.get(game[1]), 'R'));
+		}
+		Collections.shuffle(games);
+		return games;
+	}
+
+	/**
+	 * whether two teams are in the same group for a schedule rule.
+	 */
+	private boolean sameGroup(String rule, int team1, int team2) {
+		int div1 = topology.divisionOfTeam(team1);
+		int div2 = topology.divisionOfTeam(team2);
+		if (rule.equals("division")) {
+			return div1 == div2;
+		} else if (rule.equals("conference")) {
+			return topology.conferenceOfDivision(div1) == topology.conferenceOfDivision(div2);
+		}
+		return true;
+	}
+}
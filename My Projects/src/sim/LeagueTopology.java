@@ -0,0 +1,289 @@
+package sim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+public final class LeagueTopology implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String name;
+	private final String[] conferenceNames;
+	private final int[] playoffTeams;
+	private final int[] playoffTeamsPerDivision;
+	private final char[] playoffStructures;
+	private final String[] divisionNames;
+	private final int[] conferenceOfDivision;
+	private final String[] cities;
+	private final String[] teamNames;
+	private final String[] abbreviations;
+	private final int[] divisionOfTeam;
+	private final GameModel gameModel;
+
+	/**
+	 * Copies the conferences, divisions, teams and game model of a league. Nothing
+	 * that changes during a season is copied, that is kept in a SeasonState, and
+	 * nothing here can be changed so one topology can be shared by any amount of
+	 * simulations at the same time.
+	 * 
+	 * @param league - league to copy.
+	 */
+	public LeagueTopology(League league) {
+		name = league.name();
+		gameModel = league.gameModel();
+		ArrayList<Conference> confs = league.conferences();
+		ArrayList<Division> divs = league.divisions();
+		conferenceNames = new String[confs.size()];
+		playoffTeams = new int[confs.size()];
+		playoffTeamsPerDivision = new int[confs.size()];
+		playoffStructures = new char[confs.size()];
+		for (int i = 0; i < confs.size(); i++) {
+			Conference conf = confs.get(i);
+			conferenceNames[i] = conf.name();
+			playoffTeams[i] = conf.amountOfPlayoffTeams();
+			playoffTeamsPerDivision[i] = conf.teamsPerDivisionPlayoffs();
+			playoffStructures[i] = conf.playoffStructure();
+		}
+		divisionNames = new String[divs.size()];
+		conferenceOfDivision = new int[divs.size()];
+		int amountOfTeams = 0;
+		for (int i = 0; i < divs.size(); i++) {
+			divisionNames[i] = divs.get(i).name();
+			conferenceOfDivision[i] = confs.indexOf(divs.get(i).conference());
+			amountOfTeams += divs.get(i).size();
+		}
+		cities = new String[amountOfTeams];
+		teamNames = new String[amountOfTeams];
+		abbreviations = new String[amountOfTeams];
+		divisionOfTeam = new int[amountOfTeams];
+		int index = 0;
+		for (int i = 0; i < divs.size(); i++) {
+			for (Team t : divs.get(i).liveTeams()) {
+				cities[index] = t.city();
+				teamNames[index] = t.name();
+				abbreviations[index] = t.abbreviation();
+				divisionOfTeam[index] = i;
+				index++;
+			}
+		}
+	}
+
+	/**
+	 * Topology made from its parts. Every name and abbreviation has to be checked
+	 * to be unique before this is used.
+	 */
+	protected LeagueTopology(String name, String[] conferenceNames, int[] playoffTeams, int[] playoffTeamsPerDivision,
+			char[] playoffStructures, String[] divisionNames, int[] conferenceOfDivision, String[] cities,
+			String[] teamNames, String[] abbreviations, int[] divisionOfTeam, GameModel gameModel) {
+		this.name = name;
+		this.conferenceNames = conferenceNames;
+		this.playoffTeams = playoffTeams;
+		this.playoffTeamsPerDivision = playoffTeamsPerDivision;
+		this.playoffStructures = playoffStructures;
+		this.divisionNames = divisionNames;
+		this.conferenceOfDivision = conferenceOfDivision;
+		this.cities = cities;
+		this.teamNames = teamNames;
+		this.abbreviations = abbreviations;
+		this.divisionOfTeam = divisionOfTeam;
+		this.gameModel = gameModel;
+	}
+
+	/**
+	 * Makes a new league with this topology. Each simulation should make its own
+	 * league so no team is shared between threads.
+	 * 
+	 * @param state - skill levels, health and records to give the teams.
+	 * @throws IllegalArgumentException - throws exception if the state is for a
+	 *                                  different amount of teams.
+	 */
+	public League build(SeasonState state) throws IllegalArgumentException {
+		if (state.size() != size()) {
+			throw new IllegalArgumentException(
+					"This state is for " + state.size() + " teams, not " + size() + " teams.");
+		}
+		double[] skills = new double[size()];
+		for (int i = 0; i < skills.length; i++) {
+			skills[i] = state.skill(i);
+		}
+		ArrayList<Team> teams = new ArrayList<>();
+		League league = build(skills, teams);
+		state.restore(teams);
+		return league;
+	}
+
+	/**
+	 * Puts a league made by build back the way build made it so it can be used for
+	 * another simulation without making a new one. The teams get the state, every
+	 * standings list goes back to the order of this topology and the league gets
+	 * the game model of this topology again.
+	 * 
+	 * @param league - league made by build.
+	 * @param teams  - teams of the league in the order of this topology.
+	 * @param state  - skill levels, health and records to give the teams.
+	 * @throws IllegalArgumentException - throws exception if the state is for a
+	 *                                  different amount of teams.
+	 */
+	public void reset(League league, ArrayList<Team> teams, SeasonState state) throws IllegalArgumentException {
+		state.restore(teams);
+		league.restoreTeamOrder(teams);
+		league.setGameModel(gameModel);
+	}
+
+	/**
+	 * Makes a new league with this topology where no games have been played.
+	 * 
+	 * @param skills - skill level of each team in the order of this topology.
+	 * @throws IllegalArgumentException - throws exception if there is not one skill
+	 *                                  level for each team.
+	 */
+	public League build(double[] skills) throws IllegalArgumentException {
+		if (skills.length != size()) {
+			throw new IllegalArgumentException(
+					"There are " + skills.length + " skill levels for " + size() + " teams.");
+		}
+		return build(skills, new ArrayList<>());
+	}
+
+	/**
+	 * makes the league and adds its teams to a list in the order of this topology.
+	 */
+	private League build(double[] skills, ArrayList<Team> teams) {
+		League league = new League(name);
+		league.setGameModel(gameModel);
+		Conference[] confs = new Conference[conferenceNames.length];
+		for (int i = 0; i < confs.length; i++) {
+			confs[i] = new Conference(conferenceNames[i], league, playoffTeams[i], playoffTeamsPerDivision[i],
+					playoffStructures[i]);
+		}
+		Division[] divs = new Division[divisionNames.length];
+		for (int i = 0; i < divs.length; i++) {
+			divs[i] = new Division(divisionNames[i], confs[conferenceOfDivision[i]]);
+		}
+		for (int i = 0; i < abbreviations.length; i++) {
+			teams.add(new Team(cities[i], teamNames[i], abbreviations[i], divs[divisionOfTeam[i]], skills[i], false));
+		}
+		return league;
+	}
+
+	/**
+	 * name of the league.
+	 */
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * game model every league made from this topology starts with.
+	 */
+	public GameModel gameModel() {
+		return gameModel;
+	}
+
+	/**
+	 * amount of conferences.
+	 */
+	public int amountOfConferences() {
+		return conferenceNames.length;
+	}
+
+	/**
+	 * Amount of playoff rounds, the same way the playoffs count them: enough rounds
+	 * for the conference with the most playoff teams plus enough for the conference
+	 * winners.
+	 */
+	public int amountOfPlayoffRounds() {
+		int max = 0;
+		for (int amount : playoffTeams) {
+			max = Math.max(max, rounds(amount));
+		}
+		return max + rounds(conferenceNames.length);
+	}
+
+	/**
+	 * rounds needed for a bracket of a number of teams.
+	 */
+	private static int rounds(int amountOfTeams) {
+		return (int) Math.ceil(Math.log(amountOfTeams) / Math.log(2));
+	}
+
+	/**
+	 * amount of divisions.
+	 */
+	public int amountOfDivisions() {
+		return divisionNames.length;
+	}
+
+	/**
+	 * amount of teams.
+	 */
+	public int size() {
+		return abbreviations.length;
+	}
+
+	/**
+	 * abbreviation of the team at a position in the topology.
+	 * 
+	 * @param team - position of the team starting at 0.
+	 */
+	public String abbreviation(int team) {
+		return abbreviations[team];
+	}
+
+	/**
+	 * name of a division.
+	 * 
+	 * @param division - position of the division starting at 0.
+	 */
+	public String divisionName(int division) {
+		return divisionNames[division];
+	}
+
+	/**
+	 * name of a conference.
+	 * 
+	 * @param conference - position of the conference starting at 0.
+	 */
+	public String conferenceName(int conference) {
+		return conferenceNames[conference];
+	}
+
+	/**
+	 * position of the division of a team.
+	 * 
+	 * @param team - position of the team starting at 0.
+	 */
+	public int divisionOfTeam(int team) {
+		return divisionOfTeam[team];
+	}
+
+	/**
+	 * position of the conference of a division.
+	 * 
+	 * @param division - position of the division starting at 0.
+	 */
+	public int conferenceOfDivision(int division) {
+		return conferenceOfDivision[division];
+	}
+
+	/**
+	 * Teams of a league in the same order as this topology. Use this order when
+	 * making a ScheduleTemplate or SeasonState that goes with this topology.
+	 * 
+	 * @param league - league with the same teams as this topology.
+	 * @return teams of the league in the order of this topology.
+	 * @throws IllegalArgumentException - throws exception if a team is missing.
+	 */
+	public ArrayList<Team> teamOrder(League league) throws IllegalArgumentException {
+		ArrayList<Team> order = new ArrayList<>();
+		for (String abr : abbreviations) {
+			try {
+				order.add(league.teamWithAbbreviation(abr));
+			} catch (NoSuchElementException e) {
+				throw new IllegalArgumentException("The " + league.name() + " has no team \"" + abr + "\".");
+			}
+		}
+		return order;
+	}
+}
@@ -0,0 +1,130 @@
+package sim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+public class OutcomeHistogram implements Serializable {
+
+	private static final long serialVersionUID = 2L;
+
+	private final String[] abbreviations;
+	// missed playoffs, still competing, one column for each round and champions.
+	private final String[] columnNames;
+	private final long[][] counts;
+	private long replicates;
+
+	/**
+	 * Empty count of season results for the teams of a league, with a column for
+	 * every playoff round of the league.
+	 * 
+	 * @param topology - league the results are for.
+	 */
+	public OutcomeHistogram(LeagueTopology topology) {
+		abbreviations = new String[topology.size()];
+		for (int i = 0; i < abbreviations.length; i++) {
+			abbreviations[i] = topology.abbreviation(i);
+		}
+		int rounds = topology.amountOfPlayoffRounds();
+		columnNames = new String[rounds + 3];
+		columnNames[0] = "Missed";
+		columnNames[1] = "Still";
+		for (int round = 1; round <= rounds; round++) {
+			if (round == rounds) {
+				columnNames[round + 1] = "Final";
+			} else if (round == rounds - 1 && topology.amountOfConferences() > 1) {
+				columnNames[round + 1] = "Conf F";
+			} else {
+				columnNames[round + 1] = "Round " + round;
+			}
+		}
+		columnNames[rounds + 2] = "Champion";
+		counts = new long[abbreviations.length][columnNames.length];
+	}
+
+	/**
+	 * Adds the season result of every team.
+	 * 
+	 * @param teams - teams in the same order as the topology.
+	 */
+	public void add(ArrayList<Team> teams) {
+		for (int i = 0; i < abbreviations.length; i++) {
+			counts[i][column(teams.get(i).seasonResult())]++;
+		}
+		replicates++;
+	}
+
+	/**
+	 * Adds the counts of another histogram to this one.
+	 * 
+	 * @param other - histogram for the same topology.
+	 * @return this histogram.
+	 * @throws IllegalArgumentException - throws exception if the teams are
+	 *                                  different.
+	 */
+	public OutcomeHistogram merge(OutcomeHistogram other) throws IllegalArgumentException {
+		if (other.abbreviations.length != abbreviations.length || other.columnNames.length != columnNames.length) {
+			throw new IllegalArgumentException("Cannot merge results for different leagues.");
+		}
+		for (int i = 0; i < abbreviations.length; i++) {
+			for (int j = 0; j < columnNames.length; j++) {
+				counts[i][j] += other.counts[i][j];
+			}
+		}
+		replicates += other.replicates;
+		return this;
+	}
+
+	/**
+	 * column for a season result.
+	 */
+	private int column(int result) throws IndexOutOfBoundsException {
+		if (result < -1 || result > amountOfRounds() + 1) {
+			throw new IndexOutOfBoundsException("There is no season result " + result + ".");
+		}
+		return result + 1;
+	}
+
+	/**
+	 * amount of playoff rounds in the league.
+	 */
+	public int amountOfRounds() {
+		return columnNames.length - 3;
+	}
+
+	/**
+	 * amount of seasons counted.
+	 */
+	public long replicates() {
+		return replicates;
+	}
+
+	/**
+	 * Amount of seasons a team finished with a specific result.
+	 * 
+	 * @param team   - position of the team in the topology.
+	 * @param result - season result (-1 for missed playoffs, amount of rounds + 1
+	 *               for champions).
+	 * @throws IndexOutOfBoundsException - throws exception if there is no such
+	 *                                   team or result.
+	 */
+	public long count(int team, int result) throws IndexOutOfBoundsException {
+		return counts[team][column(result)];
+	}
+
+	/**
+	 * amount of times each team finished with each result.
+	 */
+	public String toString() {
+		String str = replicates + " seasons\nTeam";
+		for (String name : columnNames) {
+			str += "\t" + name;
+		}
+		for (int i = 0; i < abbreviations.length; i++) {
+			str += "\n" + abbreviations[i];
+			for (int j = 0; j < columnNames.length; j++) {
+				str += "\t" + counts[i][j];
+			}
+		}
+		return str;
+	}
+}
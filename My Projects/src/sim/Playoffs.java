@@ -2,6 +2,8 @@ package sim;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 
 public class Playoffs {
 
@@ -27,7 +29,7 @@ public class Playoffs {
 
 	public ArrayList<Team> playoffTeams() {
 		ArrayList<Team> playoffTeams = new ArrayList<>();
-		for (Team t : league.teams()) {
+		for (Team t : league.liveTeams()) {
 			if (t.playoffs()) {
 				playoffTeams.add(t);
 			}
@@ -87,6 +89,9 @@ public class Playoffs {
 	}
 
 	public ArrayList<ArrayList<Series>> allSeries() {
+		if (!allSeries.isEmpty()) {
+			return allSeries;
+		}
 		int round = 0;
 		ArrayList<Integer> ints = new ArrayList<>();
 		for (Conference conf : league.conferences()) {
@@ -136,6 +141,52 @@ public class Playoffs {
 		return str;
 	}
 
+	/**
+	 * Plays the playoffs using the games in a log instead of simulating them, after
+	 * the regular season was replayed from the same log. Each series plays the
+	 * logged games between its teams in order and the skill and health of both
+	 * teams are set to what they were after each game. Once the playoffs are over,
+	 * the last logged state of each team that year is put back. The league's own
+	 * log is detached while replaying so nothing is added to the log being read.
+	 * 
+	 * @param log - log with every playoff game of this year.
+	 * @return true if the playoffs were replayed, false if they had already
+	 *         started.
+	 * @throws IllegalArgumentException - throws exception if a series is not in
+	 *                                  the log, which means the log is from a
+	 *                                  different season.
+	 */
+	public boolean replay(GameLog log) throws IllegalArgumentException {
+		if (winner != null || !preConfMatchups.isEmpty() || !preDivMatchups.isEmpty()) {
+			return false;
+		}
+		int year = league.regularSeason().year();
+		GameLog attached = league.gameLog();
+		league.setGameLog(null);
+		league.setPlayoffReplay(new GameLog.Replay(log, year));
+		try {
+			simPlayoffs();
+		} finally {
+			league.setPlayoffReplay(null);
+			league.setGameLog(attached);
+		}
+		HashMap<String, Team> byAbbreviation = new HashMap<>();
+		for (Team t : league.liveTeams()) {
+			byAbbreviation.put(t.abbreviation(), t);
+		}
+		HashSet<Team> restored = new HashSet<>();
+		for (int i = log.size() - 1; i >= 0; i--) {
+			if (log.year(i) == year && log.kind(i) == 'S') {
+				Team t = byAbbreviation.get(log.homeTeam(i));
+				if (t != null && restored.add(t)) {
+					t.restoreSkill(log.skill(i, true, true), log.health(i, true, true));
+					t.restoreResult(log.seasonResult(i), log.playoffs(i));
+				}
+			}
+		}
+		return true;
+	}
+
 	public void simPlayoffs() {
 		if (type == 'D') {
 			simDivisionPlayoffs();
@@ -144,7 +195,7 @@ public class Playoffs {
 		for (Conference conf : league.conferences()) {
 			ArrayList<Team> playoffTeams = new ArrayList<>();
 			for (int i = 0; i < conf.amountOfPlayoffTeams(); i++) {
-				playoffTeams.add(conf.teams().get(i));
+				playoffTeams.add(conf.liveTeams().get(i));
 			}
 			Bracket confPlay = new Bracket(playoffTeams, type);
 			preConfMatchups.add(confPlay);
@@ -160,6 +211,8 @@ public class Playoffs {
 		}
 		winner = finalsMatchups.winner();
 		winner.incrementResult();
+		league.publishStandings();
+		league.logTeamStates();
 		allSeries();
 	}
 
@@ -167,7 +220,7 @@ public class Playoffs {
 		int amountOfWildCard = conf.amountOfPlayoffTeams() - conf.teamsPerDivisionPlayoffs() * conf.divisions().size();
 		Team[] teams = new Team[amountOfWildCard];
 		int counter = 0;
-		for (Team t : conf.teams()) {
+		for (Team t : conf.liveTeams()) {
 			if (t.divisionSeeding() > conf.teamsPerDivisionPlayoffs()) {
 				teams[counter] = t;
 				counter++;
@@ -198,7 +251,7 @@ public class Playoffs {
 			for (Team t : divLeaders) {
 				ArrayList<Team> divPlayoffTeams = new ArrayList<>();
 				for (int i = 0; i < conf.teamsPerDivisionPlayoffs(); i++) {
-					divPlayoffTeams.add(t.division().teams().get(i));
+					divPlayoffTeams.add(t.division().liveTeams().get(i));
 				}
 				divPlayoffTeams.add(wildCard[counter]);
 				Bracket divPlay = new Bracket(divPlayoffTeams, 'N');
@@ -223,10 +276,15 @@ public class Playoffs {
 		}
 		winner = finalsMatchups.winner();
 		winner.incrementResult();
+		league.publishStandings();
+		league.logTeamStates();
 		allDivSeries();
 	}
 
 	public ArrayList<ArrayList<Series>> allDivSeries() {
+		if (!allSeries.isEmpty()) {
+			return allSeries;
+		}
 		int round = 0;
 		ArrayList<Integer> ints = new ArrayList<>();
 		for (Conference conf : league.conferences()) {
@@ -249,7 +307,7 @@ public class Playoffs {
 			for (Bracket brack : preConfMatchups) {
 				if (amountOfSubRounds(brack.teamsRemaining()) <= max) {
 					for (Series ser : brack.rounds().get(round - 2)) {
-						allSeries.get(round - 2).add(ser);
+						allSeries.get(round).add(ser);
 					}
 				}
 			}
@@ -273,4 +331,11 @@ public class Playoffs {
 		return winner;
 	}
 
+	/**
+	 * series of each round. Empty until the playoffs have been simulated.
+	 */
+	public ArrayList<ArrayList<Series>> rounds() {
+		return allSeries;
+	}
+
 }
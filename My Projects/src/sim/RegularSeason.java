@@ -1,48 +1,362 @@
 package sim;
 
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Random;
 
 public class RegularSeason {
 
+	// one generator per thread that every game played on that thread reuses.
+	private static final ThreadLocal<Random> gameRandoms = ThreadLocal.withInitial(Random::new);
+
 	private ArrayList<Game> games;
 	private int gamesPlayed;
 	private League league;
 	private int seasonYear;
 	private boolean seasonOver;
+	private boolean started;
+	private LocalDate openingDay;
+	private int amountOfDays;
+	private int[] firstGameOfDay;
+	private boolean recordDailyStandings;
+	private ArrayList<StandingsSnapshot> dailyStandings = new ArrayList<>();
+	private int[] endOfRound;
+	private int amountOfRounds;
+	private boolean parallel;
+	private boolean seeded;
+	private long seed;
+	private long allocatedAtStart;
+	private SimulationEvents.SeasonEvent seasonEvent;
+	private HeadToHeadMatrix matrix;
+	private StandingsHistory history;
+	private boolean replaying;
+	private boolean scaleOffSeasonChanges;
 
 	/**
 	 * Creates a regular season with a schedule and automatically starts the season.
+	 * The season plays the games in the list given, so the list is put in order of
+	 * day and every game is given its day and game number. Pass a copy to keep the
+	 * original order.
 	 * 
 	 * @param league
 	 * @param schedule
 	 * @param year
 	 */
 	public RegularSeason(League league, ArrayList<Game> schedule, int year) {
+		this(league, schedule, year, false, 0, true);
+	}
+
+	/**
+	 * Creates a seeded regular season. Every random number of the season comes from
+	 * the seed: the skill changes before the season, the games, ties broken
+	 * randomly, the skill changes after the season and the playoffs that follow, so
+	 * the same league and schedule always end the same way.
+	 * 
+	 * @param league   - league playing the season.
+	 * @param schedule - games of the season.
+	 * @param year     - year the season starts in.
+	 * @param seed     - seed for the season.
+	 */
+	public RegularSeason(League league, ArrayList<Game> schedule, int year, long seed) {
+		this(league, schedule, year, true, seed, true);
+	}
+
+	/**
+	 * Creates a regular season and plays it using the results in a log. The skill
+	 * changes before the season are not made since they would be replaced by the
+	 * ones in the log, so no random numbers are used apart from ties in the
+	 * standings. See replay.
+	 * 
+	 * @param league   - league playing the season.
+	 * @param schedule - games of the season.
+	 * @param year     - year the season starts in.
+	 * @param log      - log with every regular season game of this year.
+	 * @throws IllegalArgumentException - throws exception if the log does not have
+	 *                                  every game of this season with the same
+	 *                                  teams.
+	 */
+	public RegularSeason(League league, ArrayList<Game> schedule, int year, GameLog log)
+			throws IllegalArgumentException {
+		this(league, schedule, year, false, 0, false);
+		replay(log);
+	}
+
+	private RegularSeason(League league, ArrayList<Game> schedule, int year, boolean seeded, long seed,
+			boolean preseason) {
 		games = schedule;
 		seasonYear = year;
 		this.league = league;
+		this.seeded = seeded;
+		this.seed = seed;
+		if (seeded) {
+			league.setRandom(seededRandom(0));
+		}
+		allocatedAtStart = SimulationMetrics.threadAllocatedBytes();
+		seasonEvent = new SimulationEvents.SeasonEvent();
+		seasonEvent.begin();
 		league.startSeason(this);
+		matrix = new HeadToHeadMatrix(league.liveTeams());
+		countScheduledGames();
+		openingDay = LocalDate.of(year, Month.OCTOBER, 1);
+		scheduleDays();
+		scheduleRounds();
 		for (int i = 0; i < games.size(); i++) {
 			games.get(i).setGameNumber(i + 1);
 		}
-		for (Team t : league.teams()) {
-			for (int i = 0; i < 26; i++) {
-				t.changeSkill();
+		if (preseason) {
+			for (Team t : league.liveTeams()) {
+				for (int i = 0; i < 26; i++) {
+					t.changeSkill(league.random());
+				}
+			}
+			for (Team t : league.liveTeams()) {
+				t.preSkillLevel();
 			}
+			league.logTeamStates();
+		}
+		league.publishStandings();
+	}
+
+	/**
+	 * Gives every team the amount of games it has in the schedule so the games
+	 * remaining for a team don't need its schedule.
+	 */
+	private void countScheduledGames() {
+		HashMap<Team, Integer> counts = new HashMap<>();
+		for (Game g : games) {
+			counts.merge(g.home(), 1, Integer::sum);
+			counts.merge(g.away(), 1, Integer::sum);
+		}
+		for (Team t : league.liveTeams()) {
+			t.setScheduledGames(counts.getOrDefault(t, 0));
+		}
+	}
+
+	/**
+	 * Gives every game a day if the schedule doesn't already have them. A game is
+	 * put on the first day after both of its teams last played so no team plays
+	 * twice on the same day. The games are then put in order of their day, which
+	 * sorts the list the season was made with.
+	 */
+	private void scheduleDays() {
+		boolean dated = true;
+		for (Game g : games) {
+			if (g.day() < 1) {
+				dated = false;
+				break;
+			}
+		}
+		if (!dated) {
+			HashMap<Team, Integer> lastDay = new HashMap<>();
+			for (Game g : games) {
+				int day = Math.max(lastDay.getOrDefault(g.home(), 0), lastDay.getOrDefault(g.away(), 0)) + 1;
+				g.setDay(day);
+				lastDay.put(g.home(), day);
+				lastDay.put(g.away(), day);
+			}
+		}
+		Collections.sort(games, (x, y) -> x.day() - y.day());
+		if (games.isEmpty()) {
+			amountOfDays = 0;
+		} else {
+			amountOfDays = games.get(games.size() - 1).day();
+		}
+		firstGameOfDay = new int[amountOfDays + 2];
+		int index = 0;
+		for (int day = 1; day <= amountOfDays + 1; day++) {
+			while (index < games.size() && games.get(index).day() < day) {
+				index++;
+			}
+			firstGameOfDay[day] = index;
+		}
+	}
+
+	/**
+	 * Splits each day into rounds of games where no team plays more than once. If
+	 * the days were made by this season, each day is already one round. A game
+	 * starts a new round when it is on a new day or one of its teams already
+	 * played in the current round.
+	 */
+	private void scheduleRounds() {
+		endOfRound = new int[games.size()];
+		HashMap<Team, Integer> lastRound = new HashMap<>();
+		int round = 0;
+		int start = 0;
+		for (int i = 0; i < games.size(); i++) {
+			Game g = games.get(i);
+			if (i > 0 && (g.day() != games.get(i - 1).day() || lastRound.getOrDefault(g.home(), -1) == round
+					|| lastRound.getOrDefault(g.away(), -1) == round)) {
+				for (int j = start; j < i; j++) {
+					endOfRound[j] = i;
+				}
+				start = i;
+				round++;
+			}
+			lastRound.put(g.home(), round);
+			lastRound.put(g.away(), round);
+		}
+		for (int j = start; j < games.size(); j++) {
+			endOfRound[j] = games.size();
+		}
+		if (games.isEmpty()) {
+			amountOfRounds = 0;
+		} else {
+			amountOfRounds = round + 1;
+		}
+	}
+
+	/**
+	 * amount of rounds of games where no team plays twice in the same round.
+	 */
+	public int amountOfRounds() {
+		return amountOfRounds;
+	}
+
+	/**
+	 * Chooses whether the games in each round are simulated at the same time on
+	 * different threads. This is safe since no team plays twice in a round. Use
+	 * setSeed as well to make the results not depend on the order the threads run
+	 * in.
+	 * 
+	 * @param inParallel - true to simulate each round in parallel.
+	 */
+	public void simulateRoundsInParallel(boolean inParallel) {
+		parallel = inParallel;
+	}
+
+	/**
+	 * Sets the seed used for the games of this season. Each game gets its own
+	 * random number generator made from this seed and its game number, so the
+	 * results are the same whether the games are simulated in parallel or not. Ties
+	 * broken randomly, the skill changes after the season and the playoffs are
+	 * seeded as well. The skill changes before the season were made when the season
+	 * was created, so use the constructor with a seed to seed those too. This
+	 * cannot be changed once the season has started.
+	 * 
+	 * @param seed - seed for the games.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean setSeed(long seed) {
+		if (seasonStarted()) {
+			return false;
 		}
-		for (Team t : league.teams()) {
-			t.preSkillLevel();
+		this.seed = seed;
+		seeded = true;
+		league.setRandom(seededRandom(0));
+		return true;
+	}
+
+	/**
+	 * Random number generator for a specific game. It is the generator of the
+	 * current thread, so no generator is made for each game. With a seed it is
+	 * seeded again for the game, which gives the same numbers as a new generator
+	 * with that seed. Without one it just keeps going, which is completely random.
+	 */
+	private Random gameRandom(Game game) {
+		Random rng = gameRandoms.get();
+		if (seeded) {
+			rng.setSeed(streamSeed(game.gameNumber()));
 		}
+		return rng;
+	}
+
+	/**
+	 * Random number generator made from the seed of this season and a stream
+	 * number. Games use their game number and the league uses 0.
+	 */
+	private Random seededRandom(long stream) {
+		return new Random(streamSeed(stream));
+	}
+
+	/**
+	 * seed of a stream made from the seed of this season.
+	 */
+	private long streamSeed(long stream) {
+		long z = seed + stream * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * amount of days in the regular season.
+	 */
+	public int amountOfDays() {
+		return amountOfDays;
+	}
+
+	/**
+	 * the date of the first day of the season.
+	 */
+	public LocalDate openingDay() {
+		return openingDay;
+	}
+
+	/**
+	 * Changes the date of the first day of the season. This cannot be changed once
+	 * the season has started.
+	 * 
+	 * @param date - new date of the first day.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean setOpeningDay(LocalDate date) {
+		if (seasonStarted()) {
+			return false;
+		}
+		openingDay = date;
+		return true;
+	}
+
+	/**
+	 * the date of a day of the season.
+	 * 
+	 * @param day - day of the season starting at 1.
+	 */
+	public LocalDate date(int day) {
+		return openingDay.plusDays(day - 1);
+	}
+
+	/**
+	 * the day of the last game played. 0 if no games have been played.
+	 */
+	public int currentDay() {
+		if (gamesPlayed == 0) {
+			return 0;
+		}
+		return games.get(gamesPlayed - 1).day();
+	}
+
+	/**
+	 * all games played on a specific day.
+	 * 
+	 * @param day - day of the season starting at 1.
+	 * @return games on that day. Empty if there are none.
+	 */
+	public ArrayList<Game> gamesOnDay(int day) {
+		if (day < 1 || day > amountOfDays) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(games.subList(firstGameOfDay[day], firstGameOfDay[day + 1]));
+	}
+
+	/**
+	 * amount of games played so far.
+	 */
+	public int gamesPlayed() {
+		return gamesPlayed;
 	}
 
 	/**
 	 * true if the season has started, false otherwise.
 	 */
 	public boolean seasonStarted() {
-		return gamesPlayed != 0;
+		return started;
 	}
 
 	/**
@@ -80,6 +394,9 @@ public class RegularSeason {
 		}
 		str += "\n";
 		for (int i = 0; i < games.size(); i++) {
+			if (i == 0 || games.get(i).day() != games.get(i - 1).day()) {
+				str += "\n\n" + date(games.get(i).day());
+			}
 			str += "\n" + games.get(i).toString();
 		}
 		return str;
@@ -135,14 +452,182 @@ public class RegularSeason {
 		if (gameNumber > totalAmountOfGames()) {
 			gameNumber = totalAmountOfGames();
 		}
-		for (int i = gamesPlayed; i < gameNumber; i++) {
-			games.get(i).simGame();
-			gamesPlayed++;
+		// set before any game is played so every game sees the season as started,
+		// even the ones in the first round when the rounds are played in parallel.
+		if (gamesPlayed < gameNumber) {
+			started = true;
+		}
+		while (gamesPlayed < gameNumber) {
+			int end = gamesPlayed + 1;
+			if (parallel && history == null && endOfRound[gamesPlayed] <= gameNumber) {
+				end = endOfRound[gamesPlayed];
+				games.subList(gamesPlayed, end).parallelStream().forEach(g -> g.simGame(gameRandom(g)));
+				for (int i = gamesPlayed; i < end; i++) {
+					matrix.record(games.get(i));
+				}
+			} else {
+				Game game = games.get(gamesPlayed);
+				game.simGame(gameRandom(game));
+				matrix.record(game);
+			}
+			gamesPlayed = end;
+			if (history != null) {
+				league.updateStandings();
+				history.record(league.liveTeams(), games.get(end - 1));
+			}
+			if (recordDailyStandings && lastGameOfDay(end - 1)) {
+				if (history == null) {
+					league.updateStandings();
+				}
+				dailyStandings.add(league.publishedStandings());
+			}
 		}
 		league.updateStandings();
 		setSeasonOver();
 	}
 
+	/**
+	 * Simulates every game up to and including a specific day of the season.
+	 * 
+	 * @param day - day of the season starting at 1.
+	 */
+	public void simToDay(int day) {
+		if (day > amountOfDays) {
+			day = amountOfDays;
+		}
+		if (day < 0) {
+			day = 0;
+		}
+		simToThisGame(firstGameOfDay[day + 1]);
+	}
+
+	/**
+	 * Simulates every game up to and including a specific date.
+	 * 
+	 * @param date - last date to simulate.
+	 */
+	public void simToDate(LocalDate date) {
+		long day = ChronoUnit.DAYS.between(openingDay, date) + 1;
+		simToDay((int) Math.max(0, Math.min(day, amountOfDays)));
+	}
+
+	/**
+	 * simulates the rest of the games on the day of the next game.
+	 */
+	public void simNextDay() {
+		if (!seasonOver && gamesPlayed < games.size()) {
+			simToDay(games.get(gamesPlayed).day());
+		}
+	}
+
+	/**
+	 * Chooses whether the standings are saved at the end of each day. This cannot
+	 * be changed once the season has started.
+	 * 
+	 * @param record - true to save the standings each day.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean recordDailyStandings(boolean record) {
+		if (seasonStarted()) {
+			return false;
+		}
+		recordDailyStandings = record;
+		return true;
+	}
+
+	/**
+	 * Chooses whether the standings are saved after every game so they can be
+	 * looked up for any point of the season. The standings are updated after every
+	 * game while this is on, so rounds are not simulated in parallel. This cannot
+	 * be changed once the season has started.
+	 * 
+	 * @param record - true to save the standings after every game.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean recordStandingsHistory(boolean record) {
+		if (seasonStarted()) {
+			return false;
+		}
+		if (record) {
+			history = new StandingsHistory(league.liveTeams());
+		} else {
+			history = null;
+		}
+		return true;
+	}
+
+	/**
+	 * Chooses whether the skill changes made after the season are scaled to a 32
+	 * team league. A team that misses the playoffs gets (place - teams / 2)^2
+	 * changes, where place is its league seed starting at 0, so the total amount
+	 * grows with the cube of the league's size. When this is on, places in leagues
+	 * of more than 32 teams are scaled by 32 / teams first so each team gets about
+	 * as many changes as it would in a 32 team league. Leagues of 32 teams or fewer
+	 * are not affected. Off by default, and it can't be changed once the season is
+	 * over.
+	 * 
+	 * @param scale - true to scale the changes of big leagues.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean scaleOffSeasonChanges(boolean scale) {
+		if (seasonOver) {
+			return false;
+		}
+		scaleOffSeasonChanges = scale;
+		return true;
+	}
+
+	/**
+	 * Standings of the league right after a specific game. Returns null if the
+	 * standings history is not being recorded.
+	 * 
+	 * @param gameNumber - game number. 0 gives the standings before any games.
+	 * @throws IndexOutOfBoundsException - throws exception if that game hasn't been
+	 *                                   played yet.
+	 */
+	public StandingsSnapshot standingsAfterGame(int gameNumber) throws IndexOutOfBoundsException {
+		if (history == null) {
+			return null;
+		}
+		int day = 0;
+		if (gameNumber > 0 && gameNumber <= gamesPlayed) {
+			day = games.get(gameNumber - 1).day();
+		}
+		return history.snapshot(gameNumber, day, date(day), games);
+	}
+
+	/**
+	 * the standings at the end of each day played so far. Empty unless the
+	 * standings are being recorded.
+	 */
+	public ArrayList<StandingsSnapshot> dailyStandings() {
+		return dailyStandings;
+	}
+
+	/**
+	 * points of every team at the end of each day. Each line is a date followed by
+	 * the points of each team.
+	 */
+	public String dailyStandingsTable() {
+		ArrayList<Team> teams = new ArrayList<>(league.liveTeams());
+		Collections.sort(teams, (x, y) -> x.abbreviation().compareTo(y.abbreviation()));
+		String str = "Date";
+		for (Team t : teams) {
+			str += "\t" + t.abbreviation();
+		}
+		for (StandingsSnapshot snapshot : dailyStandings) {
+			str += "\n" + snapshot.pointsRow(teams);
+		}
+		return str;
+	}
+
+	/**
+	 * true if the game at this index is the last game of its day.
+	 */
+	private boolean lastGameOfDay(int index) {
+		return index == games.size() - 1 || games.get(index + 1).day() != games.get(index).day();
+	}
+
 	/**
 	 * simulates the next game on the schedule.
 	 */
@@ -153,28 +638,46 @@ public class RegularSeason {
 	}
 
 	/**
-	 * determines if the regular season is over.
-	 * 
-	 * @return
+	 * Ends the regular season once every game has been played. Teams that missed
+	 * the playoffs get their skill changes for the off season: (place - teams / 2)^2
+	 * of them, where place is the league seed starting at 0, with places scaled to
+	 * a 32 team league if scaleOffSeasonChanges is on.
 	 */
 	private void setSeasonOver() {
-		if (gamesPlayed == totalAmountOfGames()) {
+		if (!seasonOver && gamesPlayed == totalAmountOfGames()) {
 			seasonOver = true;
+			long allocated = SimulationMetrics.threadAllocatedBytes();
+			if (allocated >= 0) {
+				allocated -= allocatedAtStart;
+			}
+			SimulationMetrics.get().seasonSimulated(allocated);
+			if (seasonEvent.shouldCommit()) {
+				seasonEvent.league = league.name();
+				seasonEvent.year = seasonYear;
+				seasonEvent.games = games.size();
+				seasonEvent.days = amountOfDays;
+				seasonEvent.commit();
+			}
 			league.setMadePlayoffs();
-			for (Team t : league.teams()) {
+			ArrayList<Team> standings = league.liveTeams();
+			double placeScale = scaleOffSeasonChanges ? Math.min(1, 32.0 / standings.size()) : 1;
+			for (int seed = 0; seed < standings.size(); seed++) {
+				Team t = standings.get(seed);
 				if (!t.playoffs()) {
 					t.setSeasonResult(-1);
-					double amountOfChanges = league.teams().indexOf(t) - league.teams().size() / 2;
+					double amountOfChanges = (seed - standings.size() / 2) * placeScale;
 					if (amountOfChanges < 0) {
 						amountOfChanges = 0;
 					} else {
 						amountOfChanges = Math.pow(amountOfChanges, 2);
 					}
-					for (int i = 0; i < amountOfChanges; i++) {
-						t.offSeasonChangeSkill();
+					for (int i = 0; i < amountOfChanges && !replaying; i++) {
+						t.offSeasonChangeSkill(league.random());
 					}
 				}
 			}
+			league.publishStandings();
+			league.logTeamStates();
 		}
 	}
 
@@ -182,6 +685,117 @@ public class RegularSeason {
 		return seasonOver;
 	}
 
+	/**
+	 * Plays this season using the results in a log instead of simulating it. The
+	 * log can come from a different copy of the same league since teams are found
+	 * by abbreviation. No random numbers are used for the games or skill changes:
+	 * the skill and health of both teams are set to what they were after each game.
+	 * The final standings are put back in the logged order rather than sorted
+	 * again, so ties come out the way they did when the season was logged and the
+	 * playoffs can be replayed with the same seeds. The skill changes made when
+	 * this season was created are replaced by the logged ones, so use the
+	 * constructor that takes a log to skip making them. After the regular season,
+	 * the state of each team after the offseason changes is put back as well. Use
+	 * Playoffs.replay to play the playoffs from the same log. The league's own log
+	 * is detached while replaying so nothing is added to the log being read.
+	 * 
+	 * @param log - log with every regular season game of this year.
+	 * @return true if the season was replayed, false if it had already started.
+	 * @throws IllegalArgumentException - throws exception if the log does not have
+	 *                                  every game of this season with the same
+	 *                                  teams.
+	 */
+	public boolean replay(GameLog log) throws IllegalArgumentException {
+		if (seasonStarted()) {
+			return false;
+		}
+		HashMap<String, Team> byAbbreviation = new HashMap<>();
+		for (Team t : league.liveTeams()) {
+			byAbbreviation.put(t.abbreviation(), t);
+		}
+		int[] entryOfGame = new int[games.size()];
+		Arrays.fill(entryOfGame, -1);
+		int amount = log.size();
+		int firstGameEntry = amount;
+		int lastGameEntry = -1;
+		for (int i = 0; i < amount; i++) {
+			if (log.year(i) == seasonYear && log.kind(i) == 'R') {
+				int index = log.gameNumber(i) - 1;
+				if (index < 0 || index >= games.size() || !sameTeams(games.get(index), log, i)) {
+					throw new IllegalArgumentException(
+							"Game " + log.gameNumber(i) + " of the log is not in this schedule.");
+				}
+				entryOfGame[index] = i;
+				firstGameEntry = Math.min(firstGameEntry, i);
+				lastGameEntry = i;
+			}
+		}
+		for (int i = 0; i < entryOfGame.length; i++) {
+			if (entryOfGame[i] == -1) {
+				throw new IllegalArgumentException(
+						"The log does not have game " + (i + 1) + " of " + seasonYear + ".");
+			}
+		}
+		replaying = true;
+		started = true;
+		GameLog attached = league.gameLog();
+		league.setGameLog(null);
+		for (int i = 0; i < firstGameEntry; i++) {
+			if (log.year(i) == seasonYear && log.kind(i) == 'S') {
+				Team t = byAbbreviation.get(log.homeTeam(i));
+				if (t != null) {
+					t.restoreSkill(log.skill(i, true, true), log.health(i, true, true));
+					t.preSkillLevel();
+				}
+			}
+		}
+		for (int i = 0; i < games.size(); i++) {
+			int entry = entryOfGame[i];
+			Game game = games.get(i);
+			game.replayResult(byAbbreviation.get(log.winner(entry)), log.overtimes(entry));
+			game.home().restoreSkill(log.skill(entry, true, true), log.health(entry, true, true));
+			game.away().restoreSkill(log.skill(entry, false, true), log.health(entry, false, true));
+			matrix.record(game);
+		}
+		gamesPlayed = games.size();
+		// only the first state of each team after the last game, the playoffs put
+		// back the rest.
+		HashMap<Team, Integer> stateOfTeam = new HashMap<>();
+		HashMap<Team, int[]> seeds = new HashMap<>();
+		for (int i = lastGameEntry + 1; i < amount; i++) {
+			if (log.year(i) == seasonYear && log.kind(i) == 'S') {
+				Team t = byAbbreviation.get(log.homeTeam(i));
+				if (t != null && !stateOfTeam.containsKey(t)) {
+					stateOfTeam.put(t, i);
+					seeds.put(t, log.seeds(i));
+				}
+			}
+		}
+		if (seeds.size() == byAbbreviation.size()) {
+			league.restoreStandings(seeds);
+		} else {
+			// the log ends before the season does, so there is no order to put back.
+			league.updateStandings();
+		}
+		setSeasonOver();
+		for (Team t : stateOfTeam.keySet()) {
+			int i = stateOfTeam.get(t);
+			t.restoreSkill(log.skill(i, true, true), log.health(i, true, true));
+			t.restoreResult(log.seasonResult(i), log.playoffs(i));
+		}
+		league.setGameLog(attached);
+		replaying = false;
+		return true;
+	}
+
+	/**
+	 * true if a game has the same home and away teams as an entry of a log.
+	 */
+	private boolean sameTeams(Game game, GameLog log, int entry) {
+		return game.home().abbreviation().equals(log.homeTeam(entry))
+				&& game.away().abbreviation().equals(log.awayTeam(entry));
+	}
+
 	/**
 	 * All the matchups between two teams in the regular season.
 	 * 
@@ -217,30 +831,7 @@ public class RegularSeason {
 	 * @return The team with more points against the other. Null if both teams tie.
 	 */
 	public Team headToHead(Team t1, Team t2) {
-		ArrayList<Game> matchups = matchups(t1, t2);
-		int t1points = 0;
-		int secT1points = 0;
-		int t2points = 0;
-		int secT2points = 0;
-		for (Game g : matchups) {
-			if (!g.gamePlayed()) {
-				break;
-			}
-			t1points += g.pointsEarned(t1);
-			secT1points += g.gameResult(t1);
-			t2points += g.pointsEarned(t2);
-			secT2points += g.gameResult(t2);
-		}
-		if (t1points > t2points) {
-			return t1;
-		} else if (t1points < t2points) {
-			return t2;
-		} else if (secT1points > secT2points) {
-			return t1;
-		} else if (secT1points > secT2points) {
-			return t2;
-		}
-		return null;
+		return matrix.winner(t1, t2);
 	}
 
 	protected void pointTieCheck(HashMap<Team, double[]> map, ArrayList<Team> teams) {
@@ -268,33 +859,14 @@ public class RegularSeason {
 	 *         in this list.
 	 */
 	public HashMap<Team, double[]> headToHead(ArrayList<Team> teams) {
-		HashMap<Team, double[]> map = new HashMap<>();
-		for (Team t : teams) {
-			int pointCount = 0;
-			int secondaryPointCount = 0;
-			int gameCount = 0;
-			for (Team s : teams) {
-				if (s == t) {
-					continue;
-				}
-				ArrayList<Game> gamesAgainstTeam = matchups(t, s);
-				for (Game g : gamesAgainstTeam) {
-					if (!g.gamePlayed()) {
-						break;
-					}
-					pointCount += g.pointsEarned(t);
-					secondaryPointCount += g.gameResult(t);
-					gameCount++;
-				}
-			}
-			if (gameCount == 0) {
-				map.put(t, new double[] { 0.0, 0.0 });
-			} else {
-				map.put(t, new double[] { (double) pointCount / gameCount, (double) secondaryPointCount / gameCount });
-			}
+		return matrix.percentages(teams);
+	}
 
-		}
-		return map;
+	/**
+	 * points earned by every team against every other team this season.
+	 */
+	public HeadToHeadMatrix headToHeadMatrix() {
+		return matrix;
 	}
 
 }
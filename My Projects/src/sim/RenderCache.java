@@ -0,0 +1,24 @@
+package sim;
+
+import java.util.function.Supplier;
+
+public class RenderCache {
+
+	private long version = -1;
+	private String text;
+
+	/**
+	 * The text for a version of the standings. The text is only made again when
+	 * the version is different from the last time it was made.
+	 * 
+	 * @param version - current standings version of the league.
+	 * @param render  - makes the text when it is out of date.
+	 */
+	protected synchronized String get(long version, Supplier<String> render) {
+		if (text == null || this.version != version) {
+			text = render.get();
+			this.version = version;
+		}
+		return text;
+	}
+}
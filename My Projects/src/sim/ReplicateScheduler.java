@@ -0,0 +1,234 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ReplicateScheduler {
+
+	private ForkJoinPool pool;
+	private ArrayList<Chain> chains;
+	private LinkedBlockingQueue<SeasonSummary> summaries;
+	private int amountOfSeasons;
+	private int seasonsReturned;
+	private boolean started;
+	private boolean parallelRounds;
+	private volatile Throwable failure;
+	private ResultArchive archive;
+
+	// rough amount of games in a playoff series.
+	private static final int gamesPerSeries = 6;
+
+	/**
+	 * Runs chains of seasons on a work stealing pool with the given amount of
+	 * threads. Each chain is one league simulated year after year so the seasons in
+	 * a chain are always in order, but different chains run at the same time.
+	 * 
+	 * @param threads - amount of threads to use.
+	 */
+	public ReplicateScheduler(int threads) {
+		pool = new ForkJoinPool(threads);
+		chains = new ArrayList<>();
+		summaries = new LinkedBlockingQueue<>();
+	}
+
+	/**
+	 * Runs chains of seasons using one thread per processor.
+	 */
+	public ReplicateScheduler() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Adds a chain of seasons. A league is made once here to estimate the cost of
+	 * the chain from its first schedule and is then dropped; the league the chain
+	 * plays with is made by its own task, so only running chains hold a league.
+	 * The playoff type is not part of the cost since every type plays one series
+	 * less than the amount of playoff teams. Chains cannot be added once the
+	 * scheduler has started.
+	 * 
+	 * @param league      - makes a new league for this chain each time it is called.
+	 * @param schedule    - makes the schedule for each season.
+	 * @param playoffType - type of playoffs ('R' for reseeding, 'D' for divisional
+	 *                    etc.).
+	 * @param years       - amount of seasons in the chain.
+	 * @param firstYear   - year of the first season.
+	 * @return the number of this chain.
+	 * @throws IllegalStateException - throws exception if the scheduler already
+	 *                               started.
+	 */
+	public int addChain(Supplier<League> league, Function<League, ArrayList<Game>> schedule, char playoffType,
+			int years, int firstYear) throws IllegalStateException {
+		if (started) {
+			throw new IllegalStateException("Cannot add a chain after the scheduler has started.");
+		}
+		Chain chain = new Chain();
+		chain.number = chains.size();
+		chain.league = league;
+		chain.schedule = schedule;
+		chain.playoffType = playoffType;
+		chain.years = years;
+		chain.firstYear = firstYear;
+		League sample = league.get();
+		chain.cost = (long) years
+				* (schedule.apply(sample).size() + gamesPerSeries * (sample.amountofPlayoffTeams() - 1));
+		chains.add(chain);
+		amountOfSeasons += years;
+		return chain.number;
+	}
+
+	/**
+	 * Adds a chain of seasons for a new league made from a topology and a starting
+	 * state. The state is copied so every chain can start from the same one.
+	 * 
+	 * @param topology    - league for this chain.
+	 * @param state       - state of the teams before the first season.
+	 * @param schedule    - makes the schedule for each season.
+	 * @param playoffType - type of playoffs.
+	 * @param years       - amount of seasons in the chain.
+	 * @param firstYear   - year of the first season.
+	 * @return the number of this chain.
+	 * @throws IllegalStateException - throws exception if the scheduler already
+	 *                               started.
+	 */
+	public int addChain(LeagueTopology topology, SeasonState state, Function<League, ArrayList<Game>> schedule,
+			char playoffType, int years, int firstYear) throws IllegalStateException {
+		SeasonState copy = new SeasonState(state);
+		return addChain(() -> topology.build(copy), schedule, playoffType, years, firstYear);
+	}
+
+	/**
+	 * Adds every finished season to an archive. This cannot be changed once the
+	 * scheduler has started.
+	 * 
+	 * @param archive - archive for the same league as every chain.
+	 * @return true if it was changed, false otherwise.
+	 */
+	public boolean archiveResults(ResultArchive archive) {
+		if (started) {
+			return false;
+		}
+		this.archive = archive;
+		return true;
+	}
+
+	/**
+	 * Chooses whether the games of each regular season are also simulated in
+	 * parallel on the same pool. Idle threads then help with long chains once the
+	 * short chains are done.
+	 * 
+	 * @param inParallel - true to simulate rounds of games in parallel.
+	 */
+	public void simulateRoundsInParallel(boolean inParallel) {
+		parallelRounds = inParallel;
+	}
+
+	/**
+	 * Starts every chain. The most expensive chains are started first so the
+	 * cheaper chains can fill in the gaps at the end.
+	 */
+	public void start() {
+		if (started) {
+			return;
+		}
+		started = true;
+		ArrayList<Chain> order = new ArrayList<>(chains);
+		Collections.sort(order, (x, y) -> Long.compare(y.cost, x.cost));
+		for (Chain chain : order) {
+			pool.execute(() -> runChain(chain));
+		}
+	}
+
+	/**
+	 * simulates every season of a chain in order.
+	 */
+	private void runChain(Chain chain) {
+		try {
+			League league = chain.league.get();
+			for (int i = 0; i < chain.years; i++) {
+				long start = System.nanoTime();
+				ArrayList<Game> games = chain.schedule.apply(league);
+				RegularSeason reg = new RegularSeason(league, games, chain.firstYear + i);
+				reg.simulateRoundsInParallel(parallelRounds);
+				reg.simSeason();
+				Playoffs playoffs = new Playoffs(league, chain.playoffType);
+				playoffs.simPlayoffs();
+				if (archive != null) {
+					archive.addSeason(chain.number, league, playoffs);
+				}
+				summaries.add(new SeasonSummary(chain.number, league, playoffs, System.nanoTime() - start));
+			}
+		} catch (Throwable e) {
+			failure = e;
+		}
+	}
+
+	/**
+	 * Waits for the next season to finish. Seasons are returned in the order they
+	 * finish, not by chain or year.
+	 * 
+	 * @return summary of the season. Null if every season has been returned.
+	 * @throws InterruptedException  - throws exception if interrupted while
+	 *                               waiting.
+	 * @throws IllegalStateException - throws exception if a chain failed.
+	 */
+	public SeasonSummary nextSummary() throws InterruptedException, IllegalStateException {
+		start();
+		if (seasonsReturned == amountOfSeasons) {
+			return null;
+		}
+		SeasonSummary summary = null;
+		while (summary == null) {
+			if (failure != null) {
+				throw new IllegalStateException("A chain failed to simulate.", failure);
+			}
+			summary = summaries.poll(100, TimeUnit.MILLISECONDS);
+		}
+		seasonsReturned++;
+		return summary;
+	}
+
+	/**
+	 * Waits for every season to finish.
+	 * 
+	 * @return summaries of the seasons that have not been returned yet.
+	 * @throws InterruptedException - throws exception if interrupted while waiting.
+	 */
+	public ArrayList<SeasonSummary> awaitAll() throws InterruptedException {
+		ArrayList<SeasonSummary> all = new ArrayList<>();
+		SeasonSummary summary = nextSummary();
+		while (summary != null) {
+			all.add(summary);
+			summary = nextSummary();
+		}
+		return all;
+	}
+
+	/**
+	 * stops the threads once every chain is done.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * amount of seasons across every chain.
+	 */
+	public int amountOfSeasons() {
+		return amountOfSeasons;
+	}
+
+	private static class Chain {
+		private int number;
+		private Supplier<League> league;
+		private Function<League, ArrayList<Game>> schedule;
+		private char playoffType;
+		private int years;
+		private int firstYear;
+		private long cost;
+	}
+}
@@ -0,0 +1,576 @@
+package sim;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class ResultArchive implements AutoCloseable {
+
+	/**
+	 * Values kept for each team in each season. Each one is stored in its own
+	 * buffers, one value after another, so a query can read a value for many
+	 * records in a row without reading anything else.
+	 */
+	protected enum Field {
+		POINTS(Integer.BYTES, false), WINS(Short.BYTES, false), REGULATION_WINS(Short.BYTES, false),
+		LOSSES(Short.BYTES, false), OVERTIME_LOSSES(Short.BYTES, false), LEAGUE_SEED(Short.BYTES, false),
+		CONFERENCE_SEED(Short.BYTES, false), DIVISION_SEED(Short.BYTES, false), SEASON_RESULT(Byte.BYTES, false),
+		PLAYOFFS(Byte.BYTES, false), SKILL(Float.BYTES, true), PRESEASON_SKILL(Float.BYTES, true);
+
+		private final int bytes;
+		private final boolean decimal;
+
+		private Field(int bytes, boolean decimal) {
+			this.bytes = bytes;
+			this.decimal = decimal;
+		}
+	}
+
+	// layout of the record of a season. The record after the last season only has
+	// the series start, which is where the last season's series end.
+	private static final int seasonRecordBytes = 16;
+	private static final int seriesStartOffset = 0;
+	private static final int yearOffset = 8;
+	private static final int replicateOffset = 12;
+
+	// layout of a series record.
+	private static final int seriesRecordBytes = 12;
+	private static final int higherSeedOffset = 0;
+	private static final int lowerSeedOffset = 2;
+	private static final int winnerOffset = 4;
+	private static final int roundOffset = 6;
+	private static final int higherSeedWinsOffset = 7;
+	private static final int lowerSeedWinsOffset = 8;
+
+	// amount of records in each buffer.
+	private static final int recordsPerChunk = 1 << 16;
+
+	private final LeagueTopology topology;
+	private final int amountOfTeams;
+	// buffers of each field, in the order of Field. The tables are only written
+	// while holding the lock, and are copied when they grow so a reader always
+	// sees a whole table.
+	private volatile ByteBuffer[][] fieldChunks = new ByteBuffer[Field.values().length][0];
+	private volatile ByteBuffer[] seasonChunks = new ByteBuffer[0];
+	private volatile ByteBuffer[] seriesChunks = new ByteBuffer[0];
+	// written last when a season is added, so a season below it is always there.
+	private volatile int amountOfSeasons;
+	private long amountOfSeries;
+	private boolean closed;
+
+	/**
+	 * Empty archive of season results for a league. Results are kept outside of
+	 * the heap in direct buffers, so hundreds of thousands of seasons don't need to
+	 * be garbage collected. Each value of a team season is kept in its own column
+	 * of buffers, and the year and replicate are kept once per season. Teams are
+	 * numbered in the order of the topology. The buffers are held until the
+	 * archive is closed and are freed by the garbage collector after that, so an
+	 * archive that isn't needed anymore should be closed even if something still
+	 * refers to it.
+	 * 
+	 * @param topology - league the results are for.
+	 */
+	public ResultArchive(LeagueTopology topology) {
+		this.topology = topology;
+		amountOfTeams = topology.size();
+		setSeriesStart(0, 0);
+	}
+
+	/**
+	 * Adds the results of a finished season of replicate 0.
+	 * 
+	 * @param league   - league after the playoffs are over.
+	 * @param playoffs - playoffs of the season.
+	 * @return number of the season in the archive starting at 0.
+	 * @throws IllegalArgumentException - throws exception if the league doesn't
+	 *                                  have the teams of the topology.
+	 */
+	public int addSeason(League league, Playoffs playoffs) throws IllegalArgumentException {
+		return addSeason(0, league, playoffs);
+	}
+
+	/**
+	 * Adds the results of a finished season. Can be called from the threads of
+	 * different simulations at the same time, so seasons of different replicates
+	 * can be mixed together in the archive.
+	 * 
+	 * @param replicate - number of the simulation the season belongs to.
+	 * @param league    - league after the playoffs are over.
+	 * @param playoffs  - playoffs of the season.
+	 * @return number of the season in the archive starting at 0.
+	 * @throws IllegalArgumentException - throws exception if the league doesn't
+	 *                                  have the teams of the topology.
+	 * @throws IllegalStateException    - throws exception if the archive is
+	 *                                  closed.
+	 */
+	public synchronized int addSeason(int replicate, League league, Playoffs playoffs)
+			throws IllegalArgumentException, IllegalStateException {
+		if (closed) {
+			throw new IllegalStateException("Cannot add a season to a closed archive.");
+		}
+		ArrayList<Team> teams = topology.teamOrder(league);
+		int season = amountOfSeasons;
+		HashMap<Team, Integer> ids = new HashMap<>();
+		for (int i = 0; i < teams.size(); i++) {
+			ids.put(teams.get(i), i);
+		}
+		short[] conferenceSeeds = new short[amountOfTeams];
+		short[] divisionSeeds = new short[amountOfTeams];
+		for (Conference conf : league.conferences()) {
+			ArrayList<Team> confTeams = conf.liveTeams();
+			for (int i = 0; i < confTeams.size(); i++) {
+				conferenceSeeds[ids.get(confTeams.get(i))] = (short) (i + 1);
+			}
+		}
+		for (Division div : league.divisions()) {
+			ArrayList<Team> divTeams = div.liveTeams();
+			for (int i = 0; i < divTeams.size(); i++) {
+				divisionSeeds[ids.get(divTeams.get(i))] = (short) (i + 1);
+			}
+		}
+		ArrayList<Team> standings = league.liveTeams();
+		for (int i = 0; i < standings.size(); i++) {
+			Team t = standings.get(i);
+			int id = ids.get(t);
+			long record = (long) season * amountOfTeams + id;
+			put(Field.POINTS, record, t.points());
+			put(Field.WINS, record, t.wins());
+			put(Field.REGULATION_WINS, record, t.regulationWins());
+			put(Field.LOSSES, record, t.losses());
+			put(Field.OVERTIME_LOSSES, record, t.overtimeLosses());
+			put(Field.LEAGUE_SEED, record, i + 1);
+			put(Field.CONFERENCE_SEED, record, conferenceSeeds[id]);
+			put(Field.DIVISION_SEED, record, divisionSeeds[id]);
+			put(Field.SEASON_RESULT, record, t.seasonResult());
+			put(Field.PLAYOFFS, record, t.playoffs() ? 1 : 0);
+			put(Field.SKILL, record, t.trueSkillLevel());
+			put(Field.PRESEASON_SKILL, record, t.preskillLevel);
+		}
+		ArrayList<ArrayList<Series>> rounds = playoffs.rounds();
+		for (int round = 0; round < rounds.size(); round++) {
+			for (Series series : rounds.get(round)) {
+				seriesChunks = grow(seriesChunks, amountOfSeries, seriesRecordBytes);
+				ByteBuffer buffer = chunk(seriesChunks, amountOfSeries);
+				int at = offset(amountOfSeries, seriesRecordBytes);
+				buffer.putShort(at + higherSeedOffset, (short) (int) ids.get(series.higherSeed()));
+				buffer.putShort(at + lowerSeedOffset, (short) (int) ids.get(series.lowerSeed()));
+				buffer.putShort(at + winnerOffset, (short) (int) ids.get(series.winner()));
+				buffer.put(at + roundOffset, (byte) (round + 1));
+				buffer.put(at + higherSeedWinsOffset, (byte) series.amountOfWins(series.higherSeed()));
+				buffer.put(at + lowerSeedWinsOffset, (byte) series.amountOfWins(series.lowerSeed()));
+				amountOfSeries++;
+			}
+		}
+		ByteBuffer seasonBuffer = chunk(seasonChunks, season);
+		seasonBuffer.putInt(offset(season, seasonRecordBytes) + yearOffset, league.regularSeason().year());
+		seasonBuffer.putInt(offset(season, seasonRecordBytes) + replicateOffset, replicate);
+		setSeriesStart(season + 1, amountOfSeries);
+		amountOfSeasons = season + 1;
+		return season;
+	}
+
+	/**
+	 * writes the value of a field for a team season.
+	 */
+	private void put(Field field, long record, double value) {
+		ByteBuffer[][] tables = fieldChunks;
+		ByteBuffer[] chunks = tables[field.ordinal()];
+		ByteBuffer[] grown = grow(chunks, record, field.bytes);
+		if (grown != chunks) {
+			tables = tables.clone();
+			tables[field.ordinal()] = grown;
+			fieldChunks = tables;
+		}
+		ByteBuffer buffer = chunk(grown, record);
+		int at = offset(record, field.bytes);
+		if (field.decimal) {
+			buffer.putFloat(at, (float) value);
+		} else if (field.bytes == Integer.BYTES) {
+			buffer.putInt(at, (int) value);
+		} else if (field.bytes == Short.BYTES) {
+			buffer.putShort(at, (short) value);
+		} else {
+			buffer.put(at, (byte) value);
+		}
+	}
+
+	/**
+	 * value of a field for a team in a season.
+	 */
+	protected double get(Field field, int season, int team) throws IndexOutOfBoundsException {
+		if (season < 0 || season >= amountOfSeasons || team < 0 || team >= amountOfTeams) {
+			throw new IndexOutOfBoundsException("There is no record for team " + team + " in season " + season + ".");
+		}
+		long record = (long) season * amountOfTeams + team;
+		ByteBuffer buffer = chunk(fieldChunks[field.ordinal()], record);
+		int at = offset(record, field.bytes);
+		if (field.decimal) {
+			return buffer.getFloat(at);
+		} else if (field.bytes == Integer.BYTES) {
+			return buffer.getInt(at);
+		} else if (field.bytes == Short.BYTES) {
+			return buffer.getShort(at);
+		}
+		return buffer.get(at);
+	}
+
+	/**
+	 * Reads the values of a field for records in a row. Record r is team r %
+	 * amountOfTeams() in season r / amountOfTeams(). Each buffer is read straight
+	 * through with one check of the type per buffer.
+	 * 
+	 * @param field  - field to read.
+	 * @param first  - first record to read.
+	 * @param length - amount of records to read.
+	 * @param into   - array the values are put in starting at 0.
+	 */
+	protected void read(Field field, long first, int length, double[] into) {
+		ByteBuffer[] chunks = fieldChunks[field.ordinal()];
+		int done = 0;
+		while (done < length) {
+			long record = first + done;
+			ByteBuffer buffer = chunk(chunks, record);
+			int start = (int) (record % recordsPerChunk);
+			int amount = Math.min(length - done, recordsPerChunk - start);
+			if (field.decimal) {
+				for (int i = 0; i < amount; i++) {
+					into[done + i] = buffer.getFloat((start + i) * Float.BYTES);
+				}
+			} else if (field.bytes == Integer.BYTES) {
+				for (int i = 0; i < amount; i++) {
+					into[done + i] = buffer.getInt((start + i) * Integer.BYTES);
+				}
+			} else if (field.bytes == Short.BYTES) {
+				for (int i = 0; i < amount; i++) {
+					into[done + i] = buffer.getShort((start + i) * Short.BYTES);
+				}
+			} else {
+				for (int i = 0; i < amount; i++) {
+					into[done + i] = buffer.get(start + i);
+				}
+			}
+			done += amount;
+		}
+	}
+
+	/**
+	 * Table of buffers that holds a record. The same table is returned if it
+	 * already does, otherwise a copy with new buffers added, so a table that has
+	 * been published is never changed.
+	 */
+	private static ByteBuffer[] grow(ByteBuffer[] chunks, long record, int recordBytes) {
+		int index = (int) (record / recordsPerChunk);
+		if (index < chunks.length) {
+			return chunks;
+		}
+		ByteBuffer[] grown = Arrays.copyOf(chunks, index + 1);
+		for (int i = chunks.length; i <= index; i++) {
+			grown[i] = ByteBuffer.allocateDirect(recordsPerChunk * recordBytes);
+		}
+		return grown;
+	}
+
+	/**
+	 * buffer of a table that holds a record.
+	 */
+	private static ByteBuffer chunk(ByteBuffer[] chunks, long record) {
+		return chunks[(int) (record / recordsPerChunk)];
+	}
+
+	/**
+	 * position of a record in its buffer.
+	 */
+	private static int offset(long record, int recordBytes) {
+		return (int) (record % recordsPerChunk) * recordBytes;
+	}
+
+	private void setSeriesStart(int season, long series) {
+		seasonChunks = grow(seasonChunks, season, seasonRecordBytes);
+		chunk(seasonChunks, season).putLong(offset(season, seasonRecordBytes) + seriesStartOffset, series);
+	}
+
+	private long seriesStart(int season) {
+		return chunk(seasonChunks, season).getLong(offset(season, seasonRecordBytes) + seriesStartOffset);
+	}
+
+	/**
+	 * buffer and position of the record of a season.
+	 */
+	private ByteBuffer seasonRecord(int season) throws IndexOutOfBoundsException {
+		if (season < 0 || season >= amountOfSeasons) {
+			throw new IndexOutOfBoundsException(season + " is not a season in the archive.");
+		}
+		return chunk(seasonChunks, season);
+	}
+
+	/**
+	 * amount of seasons in the archive.
+	 */
+	public int amountOfSeasons() {
+		return amountOfSeasons;
+	}
+
+	/**
+	 * Lets go of every buffer so their memory can be freed by the garbage
+	 * collector. The archive is empty afterwards and seasons can't be added to it.
+	 * It shouldn't be closed while a query is reading it.
+	 */
+	public synchronized void close() {
+		closed = true;
+		amountOfSeasons = 0;
+		fieldChunks = new ByteBuffer[Field.values().length][0];
+		seasonChunks = new ByteBuffer[0];
+		seriesChunks = new ByteBuffer[0];
+	}
+
+	/**
+	 * amount of teams in each season.
+	 */
+	public int amountOfTeams() {
+		return amountOfTeams;
+	}
+
+	/**
+	 * league the results are for.
+	 */
+	public LeagueTopology topology() {
+		return topology;
+	}
+
+	/**
+	 * bytes of memory outside the heap used by the archive.
+	 */
+	public long offHeapBytes() {
+		long bytes = 0;
+		for (ByteBuffer[] chunks : fieldChunks) {
+			for (ByteBuffer b : chunks) {
+				bytes += b.capacity();
+			}
+		}
+		for (ByteBuffer b : seasonChunks) {
+			bytes += b.capacity();
+		}
+		for (ByteBuffer b : seriesChunks) {
+			bytes += b.capacity();
+		}
+		return bytes;
+	}
+
+	/**
+	 * year of a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 */
+	public int year(int season) {
+		return seasonRecord(season).getInt(offset(season, seasonRecordBytes) + yearOffset);
+	}
+
+	/**
+	 * number of the simulation a season belongs to.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 */
+	public int replicate(int season) {
+		return seasonRecord(season).getInt(offset(season, seasonRecordBytes) + replicateOffset);
+	}
+
+	/**
+	 * points of a team in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int points(int season, int team) {
+		return (int) get(Field.POINTS, season, team);
+	}
+
+	/**
+	 * wins of a team in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int wins(int season, int team) {
+		return (int) get(Field.WINS, season, team);
+	}
+
+	/**
+	 * regulation wins of a team in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int regulationWins(int season, int team) {
+		return (int) get(Field.REGULATION_WINS, season, team);
+	}
+
+	/**
+	 * losses of a team in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int losses(int season, int team) {
+		return (int) get(Field.LOSSES, season, team);
+	}
+
+	/**
+	 * overtime losses of a team in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int overtimeLosses(int season, int team) {
+		return (int) get(Field.OVERTIME_LOSSES, season, team);
+	}
+
+	/**
+	 * league seed of a team at the end of a regular season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int leagueSeed(int season, int team) {
+		return (int) get(Field.LEAGUE_SEED, season, team);
+	}
+
+	/**
+	 * conference seed of a team at the end of a regular season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int conferenceSeed(int season, int team) {
+		return (int) get(Field.CONFERENCE_SEED, season, team);
+	}
+
+	/**
+	 * division seed of a team at the end of a regular season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int divisionSeed(int season, int team) {
+		return (int) get(Field.DIVISION_SEED, season, team);
+	}
+
+	/**
+	 * season result of a team in the same way as Team.seasonResult.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public int seasonResult(int season, int team) {
+		return (int) get(Field.SEASON_RESULT, season, team);
+	}
+
+	/**
+	 * whether a team made the playoffs in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public boolean playoffs(int season, int team) {
+		return get(Field.PLAYOFFS, season, team) != 0;
+	}
+
+	/**
+	 * skill level of a team at the end of a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public double skill(int season, int team) {
+		return get(Field.SKILL, season, team);
+	}
+
+	/**
+	 * skill level of a team at the start of a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param team   - position of the team in the topology.
+	 */
+	public double preseasonSkill(int season, int team) {
+		return get(Field.PRESEASON_SKILL, season, team);
+	}
+
+	/**
+	 * amount of playoff series in a season.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 */
+	public int amountOfSeries(int season) {
+		if (season < 0 || season >= amountOfSeasons) {
+			throw new IndexOutOfBoundsException(season + " is not a season in the archive.");
+		}
+		return (int) (seriesStart(season + 1) - seriesStart(season));
+	}
+
+	/**
+	 * buffer and position of a series record.
+	 */
+	private ByteBuffer seriesRecord(int season, int series) throws IndexOutOfBoundsException {
+		if (series < 0 || series >= amountOfSeries(season)) {
+			throw new IndexOutOfBoundsException("There is no series " + series + " in season " + season + ".");
+		}
+		return chunk(seriesChunks, seriesStart(season) + series);
+	}
+
+	private int seriesOffset(int season, int series) {
+		return offset(seriesStart(season) + series, seriesRecordBytes);
+	}
+
+	/**
+	 * round of a series starting at 1.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param series - number of the series in that season starting at 0.
+	 */
+	public int seriesRound(int season, int series) {
+		return seriesRecord(season, series).get(seriesOffset(season, series) + roundOffset);
+	}
+
+	/**
+	 * position in the topology of the higher seed of a series.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param series - number of the series in that season starting at 0.
+	 */
+	public int seriesHigherSeed(int season, int series) {
+		return seriesRecord(season, series).getShort(seriesOffset(season, series) + higherSeedOffset);
+	}
+
+	/**
+	 * position in the topology of the lower seed of a series.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param series - number of the series in that season starting at 0.
+	 */
+	public int seriesLowerSeed(int season, int series) {
+		return seriesRecord(season, series).getShort(seriesOffset(season, series) + lowerSeedOffset);
+	}
+
+	/**
+	 * position in the topology of the winner of a series.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param series - number of the series in that season starting at 0.
+	 */
+	public int seriesWinner(int season, int series) {
+		return seriesRecord(season, series).getShort(seriesOffset(season, series) + winnerOffset);
+	}
+
+	/**
+	 * Score of a series.
+	 * 
+	 * @param season - number of the season starting at 0.
+	 * @param series - number of the series in that season starting at 0.
+	 * @return wins of the higher seed followed by wins of the lower seed.
+	 */
+	public String seriesScore(int season, int series) {
+		ByteBuffer buffer = seriesRecord(season, series);
+		int at = seriesOffset(season, series);
+		return buffer.get(at + higherSeedWinsOffset) + "-" + buffer.get(at + lowerSeedWinsOffset);
+	}
+}
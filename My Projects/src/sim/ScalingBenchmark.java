@@ -0,0 +1,139 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class ScalingBenchmark {
+
+	// every division has 8 teams and every conference a multiple of 64.
+	private static final int teamsPerDivision = 8;
+	private static final int teamsPerGroup = 64;
+	private static final int playoffTeamsPerConference = 16;
+
+	/**
+	 * Makes a league with conferences of 64 teams where 16 teams from each
+	 * conference make the playoffs.
+	 * 
+	 * @param amountOfTeams - amount of teams, a multiple of 64.
+	 */
+	public static League league(int amountOfTeams) {
+		return league(amountOfTeams, amountOfTeams / teamsPerGroup);
+	}
+
+	/**
+	 * Makes a league with conferences of the same size made of divisions of 8 teams
+	 * where 16 teams from each conference make the playoffs. A few conferences with
+	 * thousands of teams each put the conference standings, brackets and division
+	 * checks under load, which many conferences of 64 teams don't.
+	 * 
+	 * @param amountOfTeams       - amount of teams.
+	 * @param amountOfConferences - amount of conferences.
+	 * @throws IllegalArgumentException - throws exception if the conferences would
+	 *                                  not have a multiple of 64 teams.
+	 */
+	public static League league(int amountOfTeams, int amountOfConferences) throws IllegalArgumentException {
+		if (amountOfConferences < 1 || amountOfTeams % (amountOfConferences * teamsPerGroup) != 0) {
+			throw new IllegalArgumentException(amountOfTeams + " teams can't be split into " + amountOfConferences
+					+ " conferences of a multiple of " + teamsPerGroup + " teams.");
+		}
+		League league = new League("Benchmark " + amountOfTeams);
+		int divisionsPerConference = amountOfTeams / amountOfConferences / teamsPerDivision;
+		for (int c = 0; c < amountOfConferences; c++) {
+			Conference conf = new Conference("C" + c, league, playoffTeamsPerConference, 1, 'p');
+			for (int d = 0; d < divisionsPerConference; d++) {
+				Division div = new Division("C" + c + "D" + d, conf);
+				for (int t = 0; t < teamsPerDivision; t++) {
+					String id = c + "_" + d + "_" + t;
+					new Team("City " + id, "Team " + id, "T" + id, div);
+				}
+			}
+		}
+		return league;
+	}
+
+	/**
+	 * Every team plays each team in its division twice at home and the 63 teams
+	 * around it in its conference once at home: the 31 before it and the 32 after
+	 * it, going past the end of the conference to its start. In a conference of 64
+	 * teams that is every other team, and in a bigger one each team still plays the
+	 * same amount of games.
+	 */
+	public static ArrayList<Game> schedule(League league) {
+		ArrayList<Game> games = new ArrayList<>();
+		for (Conference conf : league.conferences()) {
+			ArrayList<Team> teams = conf.liveTeams();
+			for (int i = 0; i < teams.size(); i++) {
+				Team home = teams.get(i);
+				for (int d = 1 - teamsPerGroup / 2; d <= teamsPerGroup / 2; d++) {
+					Team away = teams.get(Math.floorMod(i + d, teams.size()));
+					if (home != away) {
+						games.add(new Game(away, home, 'R'));
+						if (home.division() == away.division()) {
+							games.add(new Game(away, home, 'R'));
+						}
+					}
+				}
+			}
+		}
+		Collections.shuffle(games);
+		return games;
+	}
+
+	/**
+	 * amount of games played in the playoffs.
+	 */
+	private static int amountOfGames(Playoffs playoffs) {
+		int games = 0;
+		for (ArrayList<Series> round : playoffs.rounds()) {
+			for (Series series : round) {
+				games += series.amountOfWins(series.higherSeed()) + series.amountOfWins(series.lowerSeed());
+			}
+		}
+		return games;
+	}
+
+	/**
+	 * Builds and simulates one season and playoffs for leagues from 256 to 4096
+	 * teams, first with conferences of 64 teams and then with only 2 conferences.
+	 * Each team plays the same amount of games at every size, so the time per team
+	 * should stay about the same if the cost of a season grows linearly. The
+	 * playoffs grow with the amount of conferences since 16 teams of each make it,
+	 * so their time should follow the amount of playoff games. The skill changes
+	 * after each season are scaled to a 32 team league, see
+	 * RegularSeason.scaleOffSeasonChanges.
+	 * 
+	 * @param args - optionally the amount of times to run each size, 2 by default.
+	 *             Only the last run of each size is shown so the first can warm up.
+	 */
+	public static void main(String[] args) {
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+		for (int layout = 0; layout < 2; layout++) {
+			System.out.println(layout == 0 ? "Conferences of 64 teams" : "2 conferences");
+			System.out.println("Teams\tGames\tBuild ms\tSeason ms\tPlayoff games\tPlayoffs ms\tus per team\tHeap MB");
+			for (int amountOfTeams = 256; amountOfTeams <= 4096; amountOfTeams *= 2) {
+				String line = "";
+				for (int run = 0; run < runs; run++) {
+					System.gc();
+					long start = System.nanoTime();
+					League league = league(amountOfTeams, layout == 0 ? amountOfTeams / teamsPerGroup : 2);
+					ArrayList<Game> games = schedule(league);
+					long built = System.nanoTime();
+					RegularSeason reg = new RegularSeason(league, games, 2021);
+					reg.scaleOffSeasonChanges(true);
+					reg.simSeason();
+					long seasonDone = System.nanoTime();
+					Playoffs playoffs = new Playoffs(league, 'R');
+					playoffs.simPlayoffs();
+					long end = System.nanoTime();
+					Runtime runtime = Runtime.getRuntime();
+					long heap = (runtime.totalMemory() - runtime.freeMemory()) / (1 << 20);
+					line = amountOfTeams + "\t" + games.size() + "\t" + (built - start) / 1000000 + "\t\t"
+							+ (seasonDone - built) / 1000000 + "\t\t" + amountOfGames(playoffs) + "\t\t"
+							+ (end - seasonDone) / 1000000 + "\t\t"
+							+ (end - start) / 1000 / amountOfTeams + "\t\t" + heap;
+				}
+				System.out.println(line);
+			}
+		}
+	}
+}
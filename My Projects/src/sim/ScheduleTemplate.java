@@ -0,0 +1,109 @@
+package sim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class ScheduleTemplate implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int[] away;
+	private final int[] home;
+	private final int amountOfTeams;
+
+	/**
+	 * Creates a fixed schedule out of an existing list of games. Every team is
+	 * stored as its position in the list of teams given so the template only holds
+	 * pairs of numbers and can be reused for as many seasons as needed.
+	 *
+	 * @param teams    - teams in the order they will be given when the schedule is
+	 *                 made.
+	 * @param schedule - games to copy the matchups from.
+	 * @throws IllegalArgumentException - throws exception if a game has a team that
+	 *                                  is not in the list of teams.
+	 */
+	public ScheduleTemplate(ArrayList<Team> teams, ArrayList<Game> schedule) throws IllegalArgumentException {
+		HashMap<Team, Integer> index = new HashMap<>();
+		for (int i = 0; i < teams.size(); i++) {
+			index.put(teams.get(i), i);
+		}
+		amountOfTeams = teams.size();
+		away = new int[schedule.size()];
+		home = new int[schedule.size()];
+		for (int i = 0; i < schedule.size(); i++) {
+			Game g = schedule.get(i);
+			Integer awayIndex = index.get(g.away());
+			Integer homeIndex = index.get(g.home());
+			if (awayIndex == null || homeIndex == null) {
+				throw new IllegalArgumentException("Game " + (i + 1) + " has a team that is not in the list of teams.");
+			}
+			away[i] = awayIndex;
+			home[i] = homeIndex;
+		}
+	}
+
+	/**
+	 * amount of games in the schedule.
+	 */
+	public int size() {
+		return away.length;
+	}
+
+	/**
+	 * amount of teams the schedule was made for.
+	 */
+	public int amountOfTeams() {
+		return amountOfTeams;
+	}
+
+	/**
+	 * position of the away team for a game in the list of teams.
+	 *
+	 * @param game - index of the game starting at 0.
+	 */
+	public int awayTeam(int game) {
+		return away[game];
+	}
+
+	/**
+	 * position of the home team for a game in the list of teams.
+	 *
+	 * @param game - index of the game starting at 0.
+	 */
+	public int homeTeam(int game) {
+		return home[game];
+	}
+
+	/**
+	 * Makes the regular season games for the given teams. This only needs to be
+	 * done once. After a season is over, use reset to play the same games again.
+	 *
+	 * @param teams - teams in the same order the template was made with.
+	 * @return every game in the schedule.
+	 * @throws IllegalArgumentException - throws exception if the amount of teams is
+	 *                                  different from the template.
+	 */
+	public ArrayList<Game> schedule(ArrayList<Team> teams) throws IllegalArgumentException {
+		if (teams.size() != amountOfTeams) {
+			throw new IllegalArgumentException(
+					"This schedule is for " + amountOfTeams + " teams, not " + teams.size() + " teams.");
+		}
+		ArrayList<Game> games = new ArrayList<>(away.length);
+		for (int i = 0; i < away.length; i++) {
+			games.add(new Game(teams.get(away[i]), teams.get(home[i]), 'R'));
+		}
+		return games;
+	}
+
+	/**
+	 * clears the result of every game so the schedule can be played again.
+	 *
+	 * @param games - games to reset.
+	 */
+	public static void reset(ArrayList<Game> games) {
+		for (Game g : games) {
+			g.resetResult();
+		}
+	}
+}
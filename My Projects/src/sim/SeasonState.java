@@ -0,0 +1,150 @@
+package sim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+public class SeasonState implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final double[] skill;
+	private final double[] preseasonSkill;
+	private final double[] health;
+	private final int[] wins;
+	private final int[] otWins;
+	private final int[] losses;
+	private final int[] otLosses;
+	private final boolean[] playoffs;
+	private final int[] result;
+
+	/**
+	 * Copies everything about the teams of a league that changes from season to
+	 * season: skill levels, health, records and season results. Use with the
+	 * topology of the same league to make copies of the league for each
+	 * simulation.
+	 * 
+	 * @param topology - topology of the league.
+	 * @param league   - league to copy from.
+	 */
+	public SeasonState(LeagueTopology topology, League league) {
+		this(topology.size());
+		capture(topology.teamOrder(league));
+	}
+
+	/**
+	 * Copies another state so each simulation can change its own copy.
+	 * 
+	 * @param state - state to copy.
+	 */
+	public SeasonState(SeasonState state) {
+		skill = state.skill.clone();
+		preseasonSkill = state.preseasonSkill.clone();
+		health = state.health.clone();
+		wins = state.wins.clone();
+		otWins = state.otWins.clone();
+		losses = state.losses.clone();
+		otLosses = state.otLosses.clone();
+		playoffs = state.playoffs.clone();
+		result = state.result.clone();
+	}
+
+	private SeasonState(int amountOfTeams) {
+		skill = new double[amountOfTeams];
+		preseasonSkill = new double[amountOfTeams];
+		health = new double[amountOfTeams];
+		wins = new int[amountOfTeams];
+		otWins = new int[amountOfTeams];
+		losses = new int[amountOfTeams];
+		otLosses = new int[amountOfTeams];
+		playoffs = new boolean[amountOfTeams];
+		result = new int[amountOfTeams];
+	}
+
+	/**
+	 * Saves the current state of each team.
+	 * 
+	 * @param teams - teams in the order of the topology.
+	 * @throws IllegalArgumentException - throws exception if the amount of teams is
+	 *                                  different.
+	 */
+	public void capture(ArrayList<Team> teams) throws IllegalArgumentException {
+		checkSize(teams);
+		for (int i = 0; i < skill.length; i++) {
+			Team t = teams.get(i);
+			skill[i] = t.trueSkillLevel();
+			preseasonSkill[i] = t.preskillLevel;
+			health[i] = t.healthRating();
+			wins[i] = t.regulationWins();
+			otWins[i] = t.overtimeWins();
+			losses[i] = t.losses();
+			otLosses[i] = t.overtimeLosses();
+			playoffs[i] = t.playoffs();
+			result[i] = t.seasonResult();
+		}
+	}
+
+	/**
+	 * Puts each team back in the saved state.
+	 * 
+	 * @param teams - teams in the order of the topology.
+	 * @throws IllegalArgumentException - throws exception if the amount of teams is
+	 *                                  different.
+	 */
+	public void restore(ArrayList<Team> teams) throws IllegalArgumentException {
+		checkSize(teams);
+		for (int i = 0; i < skill.length; i++) {
+			teams.get(i).restoreState(skill[i], preseasonSkill[i], health[i], wins[i], otWins[i], losses[i],
+					otLosses[i], playoffs[i], result[i]);
+		}
+	}
+
+	private void checkSize(ArrayList<Team> teams) throws IllegalArgumentException {
+		if (teams.size() != skill.length) {
+			throw new IllegalArgumentException(
+					"This state is for " + skill.length + " teams, not " + teams.size() + " teams.");
+		}
+	}
+
+	/**
+	 * amount of teams.
+	 */
+	public int size() {
+		return skill.length;
+	}
+
+	/**
+	 * skill level of a team.
+	 * 
+	 * @param team - position of the team in the topology.
+	 */
+	public double skill(int team) {
+		return skill[team];
+	}
+
+	/**
+	 * points of a team.
+	 * 
+	 * @param team - position of the team in the topology.
+	 */
+	public int points(int team) {
+		return 2 * (wins[team] + otWins[team]) + otLosses[team];
+	}
+
+	/**
+	 * record of a team.
+	 * 
+	 * @param team - position of the team in the topology.
+	 */
+	public String record(int team) {
+		return (wins[team] + otWins[team]) + "-" + losses[team] + "-" + otLosses[team];
+	}
+
+	/**
+	 * season result of a team in the same way as Team.seasonResult.
+	 * 
+	 * @param team - position of the team in the topology.
+	 */
+	public int seasonResult(int team) {
+		return result[team];
+	}
+}
@@ -0,0 +1,76 @@
+package sim;
+
+public class SeasonSummary {
+
+	private final int chain;
+	private final int year;
+	private final String champion;
+	private final String presidentsTrophy;
+	private final int presidentsTrophyPoints;
+	private final long nanos;
+
+	/**
+	 * Summary of a finished season. Only keeps names and numbers so the league can
+	 * keep being simulated after this is made.
+	 * 
+	 * @param chain    - number of the chain of seasons this season belongs to.
+	 * @param league   - league after the playoffs are over.
+	 * @param playoffs - playoffs of this season.
+	 * @param nanos    - time it took to simulate the season in nanoseconds.
+	 */
+	public SeasonSummary(int chain, League league, Playoffs playoffs, long nanos) {
+		this.chain = chain;
+		year = league.regularSeason().year();
+		champion = playoffs.winner().abbreviation();
+		presidentsTrophy = league.leader().abbreviation();
+		presidentsTrophyPoints = league.leader().points();
+		this.nanos = nanos;
+	}
+
+	/**
+	 * number of the chain of seasons this season belongs to.
+	 */
+	public int chain() {
+		return chain;
+	}
+
+	/**
+	 * year the season started.
+	 */
+	public int year() {
+		return year;
+	}
+
+	/**
+	 * abbreviation of the team that won the playoffs.
+	 */
+	public String champion() {
+		return champion;
+	}
+
+	/**
+	 * abbreviation of the team with the most points in the regular season.
+	 */
+	public String presidentsTrophy() {
+		return presidentsTrophy;
+	}
+
+	/**
+	 * points of the team with the most points in the regular season.
+	 */
+	public int presidentsTrophyPoints() {
+		return presidentsTrophyPoints;
+	}
+
+	/**
+	 * time it took to simulate the season in nanoseconds.
+	 */
+	public long nanos() {
+		return nanos;
+	}
+
+	public String toString() {
+		return "Chain " + chain + "\t" + year + "-" + (year + 1) + "\tChampion: " + champion + "\tPresidents' Trophy: "
+				+ presidentsTrophy + " (" + presidentsTrophyPoints + ")\t" + nanos / 1000000 + " ms";
+	}
+}
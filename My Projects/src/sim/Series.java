@@ -12,6 +12,7 @@ public class Series {
 	private Team winner;
 	private boolean seriesOver;
 	private String round;
+	private SimulationEvents.SeriesEvent seriesEvent;
 
 	/**
 	 * Creates a playoff series between two teams. The amount of games played is
@@ -223,9 +224,18 @@ public class Series {
 		if (gameNumber > games.size()) {
 			gameNumber = games.size();
 		}
+		if (seriesEvent == null) {
+			seriesEvent = new SimulationEvents.SeriesEvent();
+			seriesEvent.begin();
+		}
 		while (gamesPlayed < gameNumber && winsForEachTeam[1] < gamesToWin() && winsForEachTeam[0] < gamesToWin()) {
 			Game game = games.get(gamesPlayed);
-			game.simGame();
+			League league = game.home().league();
+			if (league.playoffReplay() != null) {
+				league.playoffReplay().play(game);
+			} else {
+				game.simGame(league.random());
+			}
 			if (game.winner() == lowerSeed) {
 				winsForEachTeam[0]++;
 			} else {
@@ -233,6 +243,9 @@ public class Series {
 			}
 			gamesPlayed++;
 		}
+		if (seriesOver) {
+			return;
+		}
 		if (winsForEachTeam[0] == gamesToWin()) {
 			winner = lowerSeed;
 			seriesOver = true;
@@ -240,6 +253,21 @@ public class Series {
 			winner = higherSeed;
 			seriesOver = true;
 		}
+		if (seriesOver) {
+			SimulationMetrics.get().seriesSimulated();
+			if (seriesEvent.shouldCommit()) {
+				seriesEvent.higherSeed = higherSeed.abbreviation();
+				seriesEvent.lowerSeed = lowerSeed.abbreviation();
+				seriesEvent.winner = winner.abbreviation();
+				seriesEvent.gamesPlayed = gamesPlayed;
+				for (int i = 0; i < gamesPlayed; i++) {
+					if (games.get(i).ot()) {
+						seriesEvent.overtimeGames++;
+					}
+				}
+				seriesEvent.commit();
+			}
+		}
 	}
 
 	/**
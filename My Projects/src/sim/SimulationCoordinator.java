@@ -0,0 +1,220 @@
+package sim;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SimulationCoordinator implements AutoCloseable {
+
+	private static final ObjectInputFilter filter = ObjectInputFilter.Config
+			.createFilter("maxdepth=10;sim.*;java.lang.*;!*");
+
+	private ArrayList<InetSocketAddress> workers;
+	private ArrayList<Process> localWorkers;
+	private int connectTimeout = 10000;
+	private int readTimeout = 600000;
+
+	/**
+	 * Splits seasons between workers running in other processes or on other
+	 * machines and combines their results.
+	 */
+	public SimulationCoordinator() {
+		workers = new ArrayList<>();
+		localWorkers = new ArrayList<>();
+	}
+
+	/**
+	 * Adds a worker that is already running.
+	 * 
+	 * @param host - machine the worker is on.
+	 * @param port - port the worker is listening on.
+	 */
+	public void addWorker(String host, int port) {
+		workers.add(new InetSocketAddress(host, port));
+	}
+
+	/**
+	 * Starts workers as new processes on this machine listening on the loopback
+	 * address. They are stopped when the coordinator is closed. Anything a worker
+	 * prints after its port is copied to this process's output so the worker never
+	 * blocks on a full pipe.
+	 * 
+	 * @param amount - amount of workers to start.
+	 * @throws IOException - throws exception if a worker does not start.
+	 */
+	public void launchLocalWorkers(int amount) throws IOException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		String classPath = System.getProperty("java.class.path");
+		for (int i = 0; i < amount; i++) {
+			ProcessBuilder builder = new ProcessBuilder(java, "-cp", classPath, SimulationWorker.class.getName(), "0");
+			builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+			Process process = builder.start();
+			localWorkers.add(process);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+			String line = reader.readLine();
+			if (line == null || !line.startsWith("port ")) {
+				throw new IOException("Worker did not start.");
+			}
+			addWorker("127.0.0.1", Integer.parseInt(line.substring(5).trim()));
+			Thread drain = new Thread(() -> drain(reader));
+			drain.setDaemon(true);
+			drain.start();
+		}
+	}
+
+	/**
+	 * copies the output of a worker until it stops.
+	 */
+	private static void drain(BufferedReader reader) {
+		try (reader) {
+			String line = reader.readLine();
+			while (line != null) {
+				System.out.println(line);
+				line = reader.readLine();
+			}
+		} catch (IOException e) {
+			// the worker was stopped.
+		}
+	}
+
+	/**
+	 * Sets how long to wait for a worker. A worker that takes longer is treated as
+	 * failed and its seasons are given to the next worker.
+	 * 
+	 * @param connect - milliseconds to wait for a connection.
+	 * @param read    - milliseconds to wait for the results of a job.
+	 * @throws IllegalArgumentException - throws exception if either time is not
+	 *                                  positive.
+	 */
+	public void setTimeouts(int connect, int read) throws IllegalArgumentException {
+		if (connect <= 0 || read <= 0) {
+			throw new IllegalArgumentException("Timeouts must be positive.");
+		}
+		connectTimeout = connect;
+		readTimeout = read;
+	}
+
+	/**
+	 * amount of workers.
+	 */
+	public int amountOfWorkers() {
+		return workers.size();
+	}
+
+	/**
+	 * Simulates seasons of a league split evenly between the workers. Season i uses
+	 * the seed firstSeed + i no matter which worker simulates it, and everything
+	 * random in a season comes from its seed, so the same arguments always give the
+	 * same counts. Games are decided with the game model of the topology. If a
+	 * worker can't be reached or times out, its seasons are sent to the next worker
+	 * with the same seeds.
+	 * 
+	 * @param topology    - league to simulate.
+	 * @param state       - state of the teams at the start of each season.
+	 * @param schedule    - schedule in the same team order as the topology.
+	 * @param playoffType - type of playoffs.
+	 * @param year        - year of each season.
+	 * @param firstSeed   - seed of the first season.
+	 * @param replicates  - amount of seasons to simulate.
+	 * @return how often each team finished with each result.
+	 * @throws IOException - throws exception if every worker fails a range of
+	 *                     seasons.
+	 */
+	public OutcomeHistogram run(LeagueTopology topology, SeasonState state, ScheduleTemplate schedule,
+			char playoffType, int year, long firstSeed, int replicates) throws IOException {
+		if (workers.isEmpty()) {
+			throw new IllegalStateException("There are no workers.");
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+		ArrayList<Future<OutcomeHistogram>> results = new ArrayList<>();
+		long seed = firstSeed;
+		for (int i = 0; i < workers.size(); i++) {
+			int amount = replicates / workers.size();
+			if (i < replicates % workers.size()) {
+				amount++;
+			}
+			SimulationWorker.Job job = new SimulationWorker.Job(topology, state, schedule, playoffType, year, seed,
+					amount);
+			int first = i;
+			String seeds = "seeds " + seed + " to " + (seed + amount - 1);
+			results.add(executor.submit(() -> send(first, job, seeds)));
+			seed += amount;
+		}
+		OutcomeHistogram histogram = new OutcomeHistogram(topology);
+		try {
+			for (Future<OutcomeHistogram> result : results) {
+				histogram.merge(result.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for workers.", e);
+		} catch (ExecutionException e) {
+			throw new IOException("A worker failed.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		return histogram;
+	}
+
+	/**
+	 * Sends a job to a worker and waits for the results, trying each other worker
+	 * in turn if it fails.
+	 */
+	private OutcomeHistogram send(int first, SimulationWorker.Job job, String seeds)
+			throws IOException, ClassNotFoundException {
+		IOException failure = null;
+		for (int i = 0; i < workers.size(); i++) {
+			InetSocketAddress worker = workers.get((first + i) % workers.size());
+			try {
+				return send(worker, job);
+			} catch (IOException e) {
+				System.err.println("Worker " + worker + " failed " + seeds + ": " + e);
+				if (failure == null) {
+					failure = new IOException("Every worker failed " + seeds + ".");
+				}
+				failure.addSuppressed(e);
+			}
+		}
+		throw failure;
+	}
+
+	/**
+	 * sends a job to one worker and waits for the results.
+	 */
+	private OutcomeHistogram send(InetSocketAddress worker, SimulationWorker.Job job)
+			throws IOException, ClassNotFoundException {
+		try (Socket socket = new Socket()) {
+			socket.connect(worker, connectTimeout);
+			socket.setSoTimeout(readTimeout);
+			ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+			out.flush();
+			ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+			in.setObjectInputFilter(filter);
+			out.writeObject(job);
+			out.flush();
+			return (OutcomeHistogram) in.readObject();
+		}
+	}
+
+	/**
+	 * stops every worker this coordinator started.
+	 */
+	@Override
+	public void close() {
+		for (Process process : localWorkers) {
+			process.destroy();
+		}
+		localWorkers.clear();
+	}
+}
@@ -0,0 +1,119 @@
+package sim;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for the simulation. They show up under "NHL Sim"
+ * in a recording and cost almost nothing when recording is off.
+ */
+public class SimulationEvents {
+
+	private SimulationEvents() {
+	}
+
+	@Name("sim.Season")
+	@Label("Regular Season")
+	@Category("NHL Sim")
+	@Description("A regular season from the start of the schedule to the last game.")
+	@StackTrace(false)
+	public static class SeasonEvent extends Event {
+
+		@Label("League")
+		String league;
+
+		@Label("Year")
+		int year;
+
+		@Label("Games")
+		int games;
+
+		@Label("Days")
+		int days;
+	}
+
+	@Name("sim.Series")
+	@Label("Playoff Series")
+	@Category("NHL Sim")
+	@Description("A playoff series from its first game to the game that decided it.")
+	@StackTrace(false)
+	public static class SeriesEvent extends Event {
+
+		@Label("Higher Seed")
+		String higherSeed;
+
+		@Label("Lower Seed")
+		String lowerSeed;
+
+		@Label("Winner")
+		String winner;
+
+		@Label("Games Played")
+		int gamesPlayed;
+
+		@Label("Overtime Games")
+		int overtimeGames;
+	}
+
+	@Name("sim.PlayoffRound")
+	@Label("Playoff Round")
+	@Category("NHL Sim")
+	@Description("Every series of one round of a playoff bracket.")
+	@StackTrace(false)
+	public static class PlayoffRoundEvent extends Event {
+
+		@Label("Round")
+		int round;
+
+		@Label("Series")
+		int series;
+
+		@Label("Teams Remaining")
+		int teamsRemaining;
+	}
+
+	@Name("sim.Tiebreak")
+	@Label("Tiebreak")
+	@Category("NHL Sim")
+	@Description("A group of teams tied in the standings, recorded once it is broken. Depth 1 is the whole group, depth 2 is part of it still tied after head to head. The rule is what decided the order.")
+	@StackTrace(false)
+	public static class TiebreakEvent extends Event {
+
+		@Label("Group")
+		String group;
+
+		@Label("Teams")
+		int size;
+
+		@Label("Depth")
+		int depth;
+
+		@Label("Rule")
+		String rule;
+	}
+
+	/**
+	 * records a group of tied teams after it has been broken.
+	 * 
+	 * @param group  - division, conference or league where the tie happened.
+	 * @param size   - amount of tied teams.
+	 * @param depth  - 1 for the whole group, 2 for teams still tied after head to
+	 *               head.
+	 * @param random - true if any of the teams were ordered at random, false if
+	 *               head to head decided the whole order.
+	 */
+	protected static void tiebreak(String group, int size, int depth, boolean random) {
+		TiebreakEvent event = new TiebreakEvent();
+		if (event.isEnabled()) {
+			event.group = group;
+			event.size = size;
+			event.depth = depth;
+			event.rule = random ? "random" : "head to head";
+			event.commit();
+		}
+	}
+}
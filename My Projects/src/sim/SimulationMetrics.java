@@ -0,0 +1,227 @@
+package sim;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class SimulationMetrics implements SimulationMetricsMBean {
+
+	private static final SimulationMetrics metrics = new SimulationMetrics();
+	private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	// LongAdder spreads updates from different threads over separate cells so
+	// counting never blocks a simulation thread.
+	private final LongAdder gamesSimulated = new LongAdder();
+	private final LongAdder overtimeGames = new LongAdder();
+	private final LongAdder standingsUpdates = new LongAdder();
+	private final LongAdder standingsUpdateNanos = new LongAdder();
+	private final LongAdder tiebreaks = new LongAdder();
+	private final LongAdder randomTiebreaks = new LongAdder();
+	private final LongAdder seriesSimulated = new LongAdder();
+	private final LongAdder seasonsSimulated = new LongAdder();
+	private final LongAdder allocatedBytes = new LongAdder();
+
+	private SimulationMetrics() {
+	}
+
+	/**
+	 * the metrics shared by every simulation in this program.
+	 */
+	public static SimulationMetrics get() {
+		return metrics;
+	}
+
+	/**
+	 * Makes the metrics readable through JMX (for example in JConsole) under the
+	 * name "sim:type=SimulationMetrics".
+	 * 
+	 * @return true if it was registered, false if it already was or failed.
+	 */
+	public static boolean registerMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("sim:type=SimulationMetrics");
+			if (server.isRegistered(name)) {
+				return false;
+			}
+			server.registerMBean(metrics, name);
+			return true;
+		} catch (JMException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * bytes allocated by the current thread so far. -1 if the JVM can't measure
+	 * it.
+	 */
+	protected static long threadAllocatedBytes() {
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	protected void gameSimulated(boolean overtime) {
+		gamesSimulated.increment();
+		if (overtime) {
+			overtimeGames.increment();
+		}
+	}
+
+	protected void standingsUpdated(long nanos) {
+		standingsUpdates.increment();
+		standingsUpdateNanos.add(nanos);
+	}
+
+	/**
+	 * @param random - true if any of the tied teams were ordered at random.
+	 */
+	protected void tiebreak(boolean random) {
+		tiebreaks.increment();
+		if (random) {
+			randomTiebreaks.increment();
+		}
+	}
+
+	protected void seriesSimulated() {
+		seriesSimulated.increment();
+	}
+
+	/**
+	 * @param bytes - bytes allocated by the thread that simulated the season. -1 if
+	 *              unknown.
+	 */
+	protected void seasonSimulated(long bytes) {
+		seasonsSimulated.increment();
+		if (bytes > 0) {
+			allocatedBytes.add(bytes);
+		}
+	}
+
+	/**
+	 * games simulated of any type.
+	 */
+	@Override
+	public long getGamesSimulated() {
+		return gamesSimulated.sum();
+	}
+
+	/**
+	 * games that went to overtime.
+	 */
+	@Override
+	public long getOvertimeGames() {
+		return overtimeGames.sum();
+	}
+
+	/**
+	 * proportion of games that went to overtime.
+	 */
+	@Override
+	public double getOvertimeFrequency() {
+		long games = getGamesSimulated();
+		if (games == 0) {
+			return 0;
+		}
+		return (double) getOvertimeGames() / games;
+	}
+
+	/**
+	 * times the league standings were updated.
+	 */
+	@Override
+	public long getStandingsUpdates() {
+		return standingsUpdates.sum();
+	}
+
+	/**
+	 * total time spent updating league standings in nanoseconds.
+	 */
+	@Override
+	public long getStandingsUpdateNanos() {
+		return standingsUpdateNanos.sum();
+	}
+
+	/**
+	 * groups of tied teams that needed a tiebreaker.
+	 */
+	@Override
+	public long getTiebreaks() {
+		return tiebreaks.sum();
+	}
+
+	/**
+	 * groups of tied teams that head to head did not fully separate, so some were
+	 * ordered at random.
+	 */
+	@Override
+	public long getRandomTiebreaks() {
+		return randomTiebreaks.sum();
+	}
+
+	/**
+	 * playoff series played to completion.
+	 */
+	@Override
+	public long getSeriesSimulated() {
+		return seriesSimulated.sum();
+	}
+
+	/**
+	 * regular seasons played to completion.
+	 */
+	@Override
+	public long getSeasonsSimulated() {
+		return seasonsSimulated.sum();
+	}
+
+	/**
+	 * bytes allocated by the threads running regular seasons. Games simulated on
+	 * other threads in parallel mode are not counted.
+	 */
+	@Override
+	public long getAllocatedBytes() {
+		return allocatedBytes.sum();
+	}
+
+	/**
+	 * average bytes allocated per regular season.
+	 */
+	@Override
+	public long getAllocatedBytesPerSeason() {
+		long seasons = getSeasonsSimulated();
+		if (seasons == 0) {
+			return 0;
+		}
+		return getAllocatedBytes() / seasons;
+	}
+
+	/**
+	 * sets every count back to 0.
+	 */
+	@Override
+	public void reset() {
+		gamesSimulated.reset();
+		overtimeGames.reset();
+		standingsUpdates.reset();
+		standingsUpdateNanos.reset();
+		tiebreaks.reset();
+		randomTiebreaks.reset();
+		seriesSimulated.reset();
+		seasonsSimulated.reset();
+		allocatedBytes.reset();
+	}
+
+	public String toString() {
+		return "Games simulated: " + getGamesSimulated() + "\nOvertime frequency: " + getOvertimeFrequency()
+				+ "\nStandings updates: " + getStandingsUpdates() + " (" + getStandingsUpdateNanos() / 1000000
+				+ " ms)\nTiebreaks: " + getTiebreaks() + " (" + getRandomTiebreaks() + " random)\nSeries simulated: " + getSeriesSimulated()
+				+ "\nSeasons simulated: " + getSeasonsSimulated() + "\nBytes allocated per season: "
+				+ getAllocatedBytesPerSeason();
+	}
+}
@@ -0,0 +1,28 @@
+package sim;
+
+public interface SimulationMetricsMBean {
+
+	public long getGamesSimulated();
+
+	public long getOvertimeGames();
+
+	public double getOvertimeFrequency();
+
+	public long getStandingsUpdates();
+
+	public long getStandingsUpdateNanos();
+
+	public long getTiebreaks();
+
+	public long getRandomTiebreaks();
+
+	public long getSeriesSimulated();
+
+	public long getSeasonsSimulated();
+
+	public long getAllocatedBytes();
+
+	public long getAllocatedBytesPerSeason();
+
+	public void reset();
+}
@@ -0,0 +1,229 @@
+package sim;
+
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+public class SimulationWorker {
+
+	// only classes needed for a job can be read from the socket.
+	private static final ObjectInputFilter filter = ObjectInputFilter.Config
+			.createFilter("maxdepth=10;sim.*;java.lang.*;!*");
+
+	private ServerSocket server;
+	private ThreadPoolExecutor handlers;
+
+	/**
+	 * Worker that waits for jobs on a port. A port of 0 picks any free port. Each
+	 * job already uses every processor, so only a few jobs are handled at once.
+	 * When they are all busy the next job is handled on the thread accepting them,
+	 * which stops new connections from being accepted until one finishes.
+	 * 
+	 * @param port    - port to listen on.
+	 * @param address - address to listen on.
+	 * @throws IOException - throws exception if the port cannot be opened.
+	 */
+	public SimulationWorker(int port, InetAddress address) throws IOException {
+		server = new ServerSocket(port, 50, address);
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+		handlers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(threads), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Worker that only accepts jobs from this machine.
+	 * 
+	 * @param port - port to listen on.
+	 * @throws IOException - throws exception if the port cannot be opened.
+	 */
+	public SimulationWorker(int port) throws IOException {
+		this(port, InetAddress.getLoopbackAddress());
+	}
+
+	/**
+	 * port this worker is listening on.
+	 */
+	public int port() {
+		return server.getLocalPort();
+	}
+
+	/**
+	 * Accepts jobs until the worker is closed. Each connection sends one job and
+	 * gets back the results of that job.
+	 */
+	public void serve() {
+		while (!server.isClosed()) {
+			try {
+				Socket socket = server.accept();
+				handlers.execute(() -> handle(socket));
+			} catch (IOException e) {
+				if (!server.isClosed()) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+
+	/**
+	 * stops accepting jobs.
+	 */
+	public void close() throws IOException {
+		server.close();
+		handlers.shutdown();
+	}
+
+	private void handle(Socket socket) {
+		try (socket) {
+			ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+			out.flush();
+			ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+			in.setObjectInputFilter(filter);
+			Job job = (Job) in.readObject();
+			out.writeObject(run(job));
+			out.flush();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Simulates every season in a job using every processor on this machine. Each
+	 * thread makes one league and one set of games and resets them for every
+	 * season it simulates.
+	 * 
+	 * @param job - seasons to simulate.
+	 * @return how often each team finished with each result.
+	 */
+	public static OutcomeHistogram run(Job job) {
+		return IntStream.range(0, job.replicates).parallel().collect(() -> new Replicates(job),
+				(replicates, i) -> replicates.simulate(job.firstSeed + i), Replicates::merge).histogram;
+	}
+
+	/**
+	 * A league and its games reused for each season simulated on one thread, along
+	 * with the results of those seasons.
+	 */
+	private static class Replicates {
+		private final Job job;
+		private final OutcomeHistogram histogram;
+		private League league;
+		private ArrayList<Team> teams;
+		private ArrayList<Game> games;
+
+		private Replicates(Job job) {
+			this.job = job;
+			histogram = new OutcomeHistogram(job.topology);
+		}
+
+		/**
+		 * simulates one season from the job's state and adds the results to the
+		 * histogram.
+		 */
+		private void simulate(long seed) {
+			if (league == null) {
+				league = job.topology.build(job.state);
+				teams = job.topology.teamOrder(league);
+				games = job.schedule.schedule(teams);
+			} else {
+				job.topology.reset(league, teams, job.state);
+				ScheduleTemplate.reset(games);
+			}
+			league.setGameModel(job.gameModel);
+			RegularSeason reg = new RegularSeason(league, games, job.year, seed);
+			reg.simSeason();
+			Playoffs playoffs = new Playoffs(league, job.playoffType);
+			playoffs.simPlayoffs();
+			histogram.add(teams);
+		}
+
+		private void merge(Replicates other) {
+			histogram.merge(other.histogram);
+		}
+	}
+
+	/**
+	 * Starts a worker. The first argument is the port (0 for any free port) and the
+	 * optional second argument is the address to listen on. The port is printed
+	 * once the worker is ready.
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = 0;
+		InetAddress address = InetAddress.getLoopbackAddress();
+		if (args.length > 0) {
+			port = Integer.parseInt(args[0]);
+		}
+		if (args.length > 1) {
+			address = InetAddress.getByName(args[1]);
+		}
+		SimulationWorker worker = new SimulationWorker(port, address);
+		System.out.println("port " + worker.port());
+		System.out.flush();
+		worker.serve();
+	}
+
+	/**
+	 * A range of seasons for a worker to simulate. Every season starts from the same
+	 * league and schedule and gets its own seed.
+	 */
+	public static class Job implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final LeagueTopology topology;
+		private final SeasonState state;
+		private final ScheduleTemplate schedule;
+		private final char playoffType;
+		private final GameModel gameModel;
+		private final int year;
+		private final long firstSeed;
+		private final int replicates;
+
+		/**
+		 * Job that decides games with the game model of the topology.
+		 * 
+		 * @param topology    - league to simulate.
+		 * @param state       - state of the teams at the start of each season.
+		 * @param schedule    - schedule in the same team order as the topology.
+		 * @param playoffType - type of playoffs.
+		 * @param year        - year of each season.
+		 * @param firstSeed   - seed of the first season. The rest count up from it.
+		 * @param replicates  - amount of seasons to simulate.
+		 */
+		public Job(LeagueTopology topology, SeasonState state, ScheduleTemplate schedule, char playoffType, int year,
+				long firstSeed, int replicates) {
+			this(topology, state, schedule, playoffType, topology.gameModel(), year, firstSeed, replicates);
+		}
+
+		/**
+		 * @param topology    - league to simulate.
+		 * @param state       - state of the teams at the start of each season.
+		 * @param schedule    - schedule in the same team order as the topology.
+		 * @param playoffType - type of playoffs.
+		 * @param gameModel   - model every game is decided with.
+		 * @param year        - year of each season.
+		 * @param firstSeed   - seed of the first season. The rest count up from it.
+		 * @param replicates  - amount of seasons to simulate.
+		 */
+		public Job(LeagueTopology topology, SeasonState state, ScheduleTemplate schedule, char playoffType,
+				GameModel gameModel, int year, long firstSeed, int replicates) {
+			this.topology = topology;
+			this.state = state;
+			this.schedule = schedule;
+			this.playoffType = playoffType;
+			this.gameModel = gameModel;
+			this.year = year;
+			this.firstSeed = firstSeed;
+			this.replicates = replicates;
+		}
+	}
+}
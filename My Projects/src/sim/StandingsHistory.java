@@ -0,0 +1,184 @@
+package sim;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class StandingsHistory {
+
+	/**
+	 * amount of games between full copies of the standings.
+	 */
+	private static final int checkpointInterval = 256;
+
+	private final Team[] teams;
+	private final HashMap<Team, Integer> index = new HashMap<>();
+	private final int[] ranking;
+	private final int[] wins;
+	private final int[] losses;
+	private final int[] otLosses;
+	private int[] changedPosition = new int[64];
+	private int[] changedTeam = new int[64];
+	private int amountOfChanges;
+	private int[] changesAfterGame = new int[64];
+	private int gamesRecorded;
+	private ArrayList<Checkpoint> checkpoints = new ArrayList<>();
+
+	/**
+	 * Starts a history of the standings. Only the positions that change after each
+	 * game are saved, along with a full copy every few hundred games, so any point
+	 * of the season can be rebuilt without copying the standings after every game.
+	 * 
+	 * @param standings - teams in order of their league standings before any games
+	 *                  are played.
+	 */
+	protected StandingsHistory(ArrayList<Team> standings) {
+		int n = standings.size();
+		teams = new Team[n];
+		ranking = new int[n];
+		wins = new int[n];
+		losses = new int[n];
+		otLosses = new int[n];
+		for (int i = 0; i < n; i++) {
+			teams[i] = standings.get(i);
+			index.put(teams[i], i);
+			ranking[i] = i;
+		}
+		checkpoints.add(new Checkpoint(this));
+	}
+
+	/**
+	 * Saves the standings after the next game of the season.
+	 * 
+	 * @param standings - teams in order of their league standings after the game.
+	 * @param game      - game that was just played.
+	 */
+	protected void record(ArrayList<Team> standings, Game game) {
+		for (int i = 0; i < ranking.length; i++) {
+			int team = index.get(standings.get(i));
+			if (ranking[i] != team) {
+				if (amountOfChanges == changedPosition.length) {
+					changedPosition = Arrays.copyOf(changedPosition, 2 * amountOfChanges);
+					changedTeam = Arrays.copyOf(changedTeam, 2 * amountOfChanges);
+				}
+				changedPosition[amountOfChanges] = i;
+				changedTeam[amountOfChanges] = team;
+				amountOfChanges++;
+				ranking[i] = team;
+			}
+		}
+		addResult(game, wins, losses, otLosses);
+		gamesRecorded++;
+		if (gamesRecorded == changesAfterGame.length) {
+			changesAfterGame = Arrays.copyOf(changesAfterGame, 2 * gamesRecorded);
+		}
+		changesAfterGame[gamesRecorded] = amountOfChanges;
+		if (gamesRecorded % checkpointInterval == 0) {
+			checkpoints.add(new Checkpoint(this));
+		}
+	}
+
+	/**
+	 * adds the result of a game to the records of its teams.
+	 */
+	private void addResult(Game game, int[] wins, int[] losses, int[] otLosses) {
+		Integer home = index.get(game.home());
+		Integer away = index.get(game.away());
+		if (home != null) {
+			addResult(game.gameResult(game.home()), home, wins, losses, otLosses);
+		}
+		if (away != null) {
+			addResult(game.gameResult(game.away()), away, wins, losses, otLosses);
+		}
+	}
+
+	private void addResult(int result, int team, int[] wins, int[] losses, int[] otLosses) {
+		if (result >= 2) {
+			wins[team]++;
+		} else if (result == 1) {
+			otLosses[team]++;
+		} else {
+			losses[team]++;
+		}
+	}
+
+	/**
+	 * amount of games saved in the history.
+	 */
+	public int gamesRecorded() {
+		return gamesRecorded;
+	}
+
+	/**
+	 * amount of times a team moved into a new position in the standings.
+	 */
+	public int amountOfChanges() {
+		return amountOfChanges;
+	}
+
+	/**
+	 * Rebuilds the standings after a specific amount of games. Starts from the
+	 * closest full copy before that game and replays only the changes after it.
+	 * 
+	 * @param gamesPlayed - amount of games played in the league.
+	 * @param day         - day of the season of the last of those games.
+	 * @param date        - date of that day.
+	 * @param games       - every game of the season in order.
+	 * @throws IndexOutOfBoundsException - throws exception if that many games have
+	 *                                   not been saved.
+	 */
+	protected StandingsSnapshot snapshot(int gamesPlayed, int day, LocalDate date, ArrayList<Game> games)
+			throws IndexOutOfBoundsException {
+		if (gamesPlayed < 0 || gamesPlayed > gamesRecorded) {
+			throw new IndexOutOfBoundsException("Only " + gamesRecorded + " games have been recorded.");
+		}
+		Checkpoint checkpoint = checkpoints.get(gamesPlayed / checkpointInterval);
+		int[] order = checkpoint.ranking.clone();
+		int[] w = checkpoint.wins.clone();
+		int[] l = checkpoint.losses.clone();
+		int[] otl = checkpoint.otLosses.clone();
+		for (int i = checkpoint.changes; i < changesAfterGame[gamesPlayed]; i++) {
+			order[changedPosition[i]] = changedTeam[i];
+		}
+		for (int i = checkpoint.gamesPlayed; i < gamesPlayed; i++) {
+			addResult(games.get(i), w, l, otl);
+		}
+		Team[] standings = new Team[order.length];
+		int[] points = new int[order.length];
+		int[] winsInOrder = new int[order.length];
+		int[] lossesInOrder = new int[order.length];
+		int[] otLossesInOrder = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			int team = order[i];
+			standings[i] = teams[team];
+			points[i] = 2 * w[team] + otl[team];
+			winsInOrder[i] = w[team];
+			lossesInOrder[i] = l[team];
+			otLossesInOrder[i] = otl[team];
+		}
+		return new StandingsSnapshot(day, date, gamesPlayed, standings, points, winsInOrder, lossesInOrder,
+				otLossesInOrder);
+	}
+
+	/**
+	 * full copy of the standings and records at one point of the season.
+	 */
+	private static class Checkpoint {
+		private final int gamesPlayed;
+		private final int changes;
+		private final int[] ranking;
+		private final int[] wins;
+		private final int[] losses;
+		private final int[] otLosses;
+
+		private Checkpoint(StandingsHistory history) {
+			gamesPlayed = history.gamesRecorded;
+			changes = history.amountOfChanges;
+			ranking = history.ranking.clone();
+			wins = history.wins.clone();
+			losses = history.losses.clone();
+			otLosses = history.otLosses.clone();
+		}
+	}
+}
@@ -0,0 +1,400 @@
+package sim;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+
+public class StandingsSnapshot {
+
+	private final long version;
+	private final int year;
+	private final int day;
+	private final LocalDate date;
+	private final int gamesPlayed;
+	private final Team[] ranking;
+	private final int[] points;
+	private final int[] wins;
+	private final int[] losses;
+	private final int[] otLosses;
+	private final int[] regulationWins;
+	private final int[] percentages;
+	private final int[] results;
+	private final String[] statuses;
+	private final int[] conferenceSeeds;
+	private final int[] divisionSeeds;
+	private final HashMap<Team, Integer> seeds = new HashMap<>();
+	private final HashMap<Group, Team[]> orders = new HashMap<>();
+	private final String[] conferenceNames;
+	private final Team[][] conferenceOrders;
+	private final String[] divisionNames;
+	private final Team[][] divisionOrders;
+
+	/**
+	 * Copies the league standings at the end of a day. Later games do not change
+	 * the snapshot.
+	 *
+	 * @param day         - day of the season.
+	 * @param date        - date of that day.
+	 * @param gamesPlayed - amount of games played in the league so far.
+	 * @param teams       - teams in order of their league standings.
+	 */
+	public StandingsSnapshot(int day, LocalDate date, int gamesPlayed, ArrayList<Team> teams) {
+		this(day, date, gamesPlayed, teams, null);
+	}
+
+	/**
+	 * Copies the league, conference and division standings of a league along with
+	 * everything its standings tables show, so the tables can be made from the
+	 * snapshot on any thread.
+	 *
+	 * @param day         - day of the season.
+	 * @param date        - date of that day.
+	 * @param gamesPlayed - amount of games played in the league so far.
+	 * @param league      - league to copy the standings of.
+	 */
+	protected StandingsSnapshot(int day, LocalDate date, int gamesPlayed, League league) {
+		this(day, date, gamesPlayed, league.liveTeams(), league);
+	}
+
+	private StandingsSnapshot(int day, LocalDate date, int gamesPlayed, ArrayList<Team> teams, League league) {
+		this.day = day;
+		this.date = date;
+		this.gamesPlayed = gamesPlayed;
+		int n = teams.size();
+		ranking = new Team[n];
+		points = new int[n];
+		wins = new int[n];
+		losses = new int[n];
+		otLosses = new int[n];
+		regulationWins = new int[n];
+		percentages = new int[n];
+		results = new int[n];
+		statuses = new String[n];
+		conferenceSeeds = new int[n];
+		divisionSeeds = new int[n];
+		for (int i = 0; i < n; i++) {
+			Team t = teams.get(i);
+			ranking[i] = t;
+			points[i] = t.points();
+			wins[i] = t.wins();
+			losses[i] = t.losses();
+			otLosses[i] = t.overtimeLosses();
+			regulationWins[i] = t.regulationWins();
+			percentages[i] = t.pointsPercentageThousandths();
+			results[i] = t.seasonResult();
+			statuses[i] = league == null ? "" : league.playoffStatus(t);
+			seeds.put(t, i + 1);
+		}
+		if (league == null) {
+			version = 0;
+			year = date == null ? 0 : date.getYear();
+			conferenceNames = new String[0];
+			conferenceOrders = new Team[0][];
+			divisionNames = new String[0];
+			divisionOrders = new Team[0][];
+			return;
+		}
+		version = league.standingsVersion();
+		year = league.regularSeason() == null ? 0 : league.regularSeason().year();
+		ArrayList<Conference> confs = league.conferences();
+		conferenceNames = new String[confs.size()];
+		conferenceOrders = new Team[confs.size()][];
+		for (int i = 0; i < conferenceNames.length; i++) {
+			conferenceNames[i] = confs.get(i).name();
+			conferenceOrders[i] = order(confs.get(i), confs.get(i).liveTeams(), conferenceSeeds);
+		}
+		ArrayList<Division> divs = league.divisions();
+		divisionNames = new String[divs.size()];
+		divisionOrders = new Team[divs.size()][];
+		for (int i = 0; i < divisionNames.length; i++) {
+			divisionNames[i] = divs.get(i).name();
+			divisionOrders[i] = order(divs.get(i), divs.get(i).liveTeams(), divisionSeeds);
+		}
+	}
+
+	/**
+	 * copies the order of a conference or division and the seed of each team in
+	 * it.
+	 */
+	private Team[] order(Group group, ArrayList<Team> teams, int[] groupSeeds) {
+		Team[] order = teams.toArray(new Team[0]);
+		for (int i = 0; i < order.length; i++) {
+			groupSeeds[index(order[i])] = i + 1;
+		}
+		orders.put(group, order);
+		return order;
+	}
+
+	/**
+	 * Makes a snapshot out of standings that were already copied. The arrays are
+	 * used as they are.
+	 *
+	 * @param day         - day of the season.
+	 * @param date        - date of that day.
+	 * @param gamesPlayed - amount of games played in the league so far.
+	 * @param ranking     - teams in order of their league standings.
+	 * @param points      - points of each team in the same order.
+	 * @param wins        - wins of each team in the same order.
+	 * @param losses      - losses of each team in the same order.
+	 * @param otLosses    - overtime losses of each team in the same order.
+	 */
+	protected StandingsSnapshot(int day, LocalDate date, int gamesPlayed, Team[] ranking, int[] points, int[] wins,
+			int[] losses, int[] otLosses) {
+		this.day = day;
+		this.date = date;
+		this.gamesPlayed = gamesPlayed;
+		this.ranking = ranking;
+		this.points = points;
+		this.wins = wins;
+		this.losses = losses;
+		this.otLosses = otLosses;
+		for (int i = 0; i < ranking.length; i++) {
+			seeds.put(ranking[i], i + 1);
+		}
+		version = 0;
+		year = date == null ? 0 : date.getYear();
+		regulationWins = new int[ranking.length];
+		percentages = new int[ranking.length];
+		results = new int[ranking.length];
+		statuses = new String[ranking.length];
+		Arrays.fill(statuses, "");
+		conferenceSeeds = new int[ranking.length];
+		divisionSeeds = new int[ranking.length];
+		conferenceNames = new String[0];
+		conferenceOrders = new Team[0][];
+		divisionNames = new String[0];
+		divisionOrders = new Team[0][];
+	}
+
+	/**
+	 * Standings version of the league when this snapshot was taken. Text made from
+	 * a snapshot with the same version is the same. 0 for snapshots that were not
+	 * made from a league.
+	 */
+	public long version() {
+		return version;
+	}
+
+	/**
+	 * year the season of this snapshot started in. 0 if there was no season.
+	 */
+	public int year() {
+		return year;
+	}
+
+	/**
+	 * day of the season this snapshot was taken.
+	 */
+	public int day() {
+		return day;
+	}
+
+	/**
+	 * date this snapshot was taken.
+	 */
+	public LocalDate date() {
+		return date;
+	}
+
+	/**
+	 * amount of games played in the league when this snapshot was taken.
+	 */
+	public int gamesPlayed() {
+		return gamesPlayed;
+	}
+
+	/**
+	 * amount of teams in the snapshot.
+	 */
+	public int size() {
+		return ranking.length;
+	}
+
+	/**
+	 * teams in order of their league standings at the time of this snapshot.
+	 */
+	public ArrayList<Team> teams() {
+		return new ArrayList<>(Arrays.asList(ranking));
+	}
+
+	/**
+	 * team at a specific league seed.
+	 *
+	 * @param seed - league seed starting at 1.
+	 */
+	public Team seedingOfTeam(int seed) throws IndexOutOfBoundsException {
+		if (seed < 1 || seed > ranking.length) {
+			throw new IndexOutOfBoundsException(seed + " is not a valid seeding.");
+		}
+		return ranking[seed - 1];
+	}
+
+	/**
+	 * league seed of a team. Returns 0 if the team is not in the snapshot.
+	 *
+	 * @param team - team to find.
+	 */
+	public int seedingOfTeam(Team team) {
+		return seeds.getOrDefault(team, 0);
+	}
+
+	/**
+	 * Standings of a conference at the time of this snapshot. Snapshots made from
+	 * a list of teams have no conferences.
+	 *
+	 * @param name - name of the conference.
+	 * @return teams of the conference in order.
+	 * @throws NoSuchElementException - throws exception if there is no conference
+	 *                                with that name.
+	 */
+	public ArrayList<Team> conferenceStandings(String name) throws NoSuchElementException {
+		return find(name, conferenceNames, conferenceOrders, "conference");
+	}
+
+	/**
+	 * Standings of a division at the time of this snapshot. Snapshots made from a
+	 * list of teams have no divisions.
+	 *
+	 * @param name - name of the division.
+	 * @return teams of the division in order.
+	 * @throws NoSuchElementException - throws exception if there is no division
+	 *                                with that name.
+	 */
+	public ArrayList<Team> divisionStandings(String name) throws NoSuchElementException {
+		return find(name, divisionNames, divisionOrders, "division");
+	}
+
+	/**
+	 * Conference seed of a team at the time of this snapshot. 0 for snapshots that
+	 * were not made from a league.
+	 *
+	 * @param team - team in the snapshot.
+	 * @throws NoSuchElementException - throws exception if the team is not in the
+	 *                                snapshot.
+	 */
+	public int conferenceSeeding(Team team) throws NoSuchElementException {
+		return conferenceSeeds[index(team)];
+	}
+
+	/**
+	 * Division seed of a team at the time of this snapshot. 0 for snapshots that
+	 * were not made from a league.
+	 *
+	 * @param team - team in the snapshot.
+	 * @throws NoSuchElementException - throws exception if the team is not in the
+	 *                                snapshot.
+	 */
+	public int divisionSeeding(Team team) throws NoSuchElementException {
+		return divisionSeeds[index(team)];
+	}
+
+	/**
+	 * Standings of a conference or division of the league at the time of this
+	 * snapshot.
+	 *
+	 * @param group - conference or division.
+	 * @return teams of the group in order.
+	 * @throws NoSuchElementException - throws exception if the group was not in
+	 *                                the league.
+	 */
+	public ArrayList<Team> standings(Group group) throws NoSuchElementException {
+		Team[] order = orders.get(group);
+		if (order == null) {
+			throw new NoSuchElementException("There is no " + group.name() + " in this snapshot.");
+		}
+		return new ArrayList<>(Arrays.asList(order));
+	}
+
+	private ArrayList<Team> find(String name, String[] names, Team[][] orders, String type)
+			throws NoSuchElementException {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				ArrayList<Team> teams = new ArrayList<>();
+				for (Team t : orders[i]) {
+					teams.add(t);
+				}
+				return teams;
+			}
+		}
+		throw new NoSuchElementException("There is no " + type + " called " + name + " in this snapshot.");
+	}
+
+	/**
+	 * position of a team in the arrays of this snapshot.
+	 *
+	 * @param team - team to find.
+	 * @throws NoSuchElementException - throws exception if the team is not in the
+	 *                                snapshot.
+	 */
+	private int index(Team team) throws NoSuchElementException {
+		Integer seed = seeds.get(team);
+		if (seed == null) {
+			throw new NoSuchElementException("The " + team.city() + " " + team.name() + " are not in this snapshot.");
+		}
+		return seed - 1;
+	}
+
+	/**
+	 * points of a team at the time of this snapshot.
+	 *
+	 * @param team - team to get points of.
+	 */
+	public int points(Team team) {
+		return points[index(team)];
+	}
+
+	/**
+	 * record of a team at the time of this snapshot.
+	 *
+	 * @param team - team to get record of.
+	 */
+	public String record(Team team) {
+		int i = index(team);
+		return wins[i] + "-" + losses[i] + "-" + otLosses[i];
+	}
+
+	/**
+	 * Line of a standings table for a team at the time of this snapshot, the same
+	 * as Team.toString at the time. Conference ranking, division ranking, league
+	 * ranking, city, name, playoff marker, record, points, points percentage,
+	 * regulation wins and season result.
+	 *
+	 * @param team - team in the snapshot.
+	 * @throws NoSuchElementException - throws exception if the team is not in the
+	 *                                snapshot.
+	 */
+	public String standingsLine(Team team) throws NoSuchElementException {
+		int i = index(team);
+		return "[" + conferenceSeeds[i] + "]\t(" + divisionSeeds[i] + ")\t<" + (i + 1) + ">\t" + team.city() + " "
+				+ team.name() + statuses[i] + "\t" + record(team) + "\t" + points[i] + "\t" + percentages[i] / 1000.0
+				+ "\t" + regulationWins[i] + "\t" + Team.endOfSeason(results[i]);
+	}
+
+	/**
+	 * one line of a time series. The date followed by the points of each team in
+	 * the order given.
+	 *
+	 * @param teams - teams in the order they should be listed.
+	 */
+	public String pointsRow(ArrayList<Team> teams) {
+		String str = "" + date;
+		for (Team t : teams) {
+			str += "\t" + points(t);
+		}
+		return str;
+	}
+
+	/**
+	 * the standings on this date.
+	 */
+	public String toString() {
+		String str = date + " (" + gamesPlayed + " games played)";
+		for (int i = 0; i < ranking.length; i++) {
+			str += "\n" + (i + 1) + "\t" + ranking[i].abbreviation() + "\t" + wins[i] + "-" + losses[i] + "-"
+					+ otLosses[i] + "\t" + points[i];
+		}
+		return str;
+	}
+}
@@ -0,0 +1,206 @@
+package sim;
+
+import java.util.ArrayList;
+
+public class StreakTracker {
+
+	private final ArrayList<Team> teams;
+	private final int[] playoffStreak;
+	private final int[] longestPlayoffStreak;
+	private final int[] drought;
+	private final int[] longestDrought;
+	private final int[] titleStreak;
+	private final int[] longestTitleStreak;
+	private final int[] backToBackTitles;
+	private final int[] rebuild;
+	private final int[] longestRebuild;
+	private final int[] titles;
+	private int seasons;
+
+	/**
+	 * Keeps track of streaks for every team in a league over many seasons. Only the
+	 * current and longest streaks are kept, so nothing about older seasons is
+	 * stored and each season takes the same amount of work to add.
+	 * 
+	 * @param league - league with every team to follow.
+	 */
+	public StreakTracker(League league) {
+		teams = new ArrayList<>(league.liveTeams());
+		int size = teams.size();
+		playoffStreak = new int[size];
+		longestPlayoffStreak = new int[size];
+		drought = new int[size];
+		longestDrought = new int[size];
+		titleStreak = new int[size];
+		longestTitleStreak = new int[size];
+		backToBackTitles = new int[size];
+		rebuild = new int[size];
+		longestRebuild = new int[size];
+		titles = new int[size];
+	}
+
+	/**
+	 * Adds the results of a season once the playoffs are over.
+	 * 
+	 * @param playoffs - playoffs that just finished.
+	 */
+	public void update(Playoffs playoffs) {
+		Team champion = playoffs.winner();
+		for (int i = 0; i < teams.size(); i++) {
+			Team t = teams.get(i);
+			if (t.playoffs()) {
+				playoffStreak[i]++;
+				rebuild[i] = 0;
+			} else {
+				playoffStreak[i] = 0;
+				rebuild[i]++;
+			}
+			if (t == champion) {
+				titles[i]++;
+				titleStreak[i]++;
+				if (titleStreak[i] >= 2) {
+					backToBackTitles[i]++;
+				}
+				drought[i] = 0;
+			} else {
+				titleStreak[i] = 0;
+				drought[i]++;
+			}
+			longestPlayoffStreak[i] = Math.max(longestPlayoffStreak[i], playoffStreak[i]);
+			longestDrought[i] = Math.max(longestDrought[i], drought[i]);
+			longestTitleStreak[i] = Math.max(longestTitleStreak[i], titleStreak[i]);
+			longestRebuild[i] = Math.max(longestRebuild[i], rebuild[i]);
+		}
+		seasons++;
+	}
+
+	/**
+	 * position of a team in the tracker. Throws IllegalArgumentException if the
+	 * team was not in the league when the tracker was made.
+	 */
+	private int indexOf(Team team) throws IllegalArgumentException {
+		for (int i = 0; i < teams.size(); i++) {
+			if (teams.get(i) == team) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException(
+				"The " + team.city() + " " + team.name() + " are not followed by this tracker.");
+	}
+
+	/**
+	 * amount of seasons added.
+	 */
+	public int seasons() {
+		return seasons;
+	}
+
+	/**
+	 * amount of playoff appearances in a row up to the last season.
+	 */
+	public int playoffStreak(Team team) {
+		return playoffStreak[indexOf(team)];
+	}
+
+	/**
+	 * most playoff appearances in a row.
+	 */
+	public int longestPlayoffStreak(Team team) {
+		return longestPlayoffStreak[indexOf(team)];
+	}
+
+	/**
+	 * seasons since the last Stanley Cup, counting from the first season if the
+	 * team hasn't won one.
+	 */
+	public int drought(Team team) {
+		return drought[indexOf(team)];
+	}
+
+	/**
+	 * most seasons in a row without a Stanley Cup.
+	 */
+	public int longestDrought(Team team) {
+		return longestDrought[indexOf(team)];
+	}
+
+	/**
+	 * Stanley Cups in a row up to the last season.
+	 */
+	public int titleStreak(Team team) {
+		return titleStreak[indexOf(team)];
+	}
+
+	/**
+	 * most Stanley Cups in a row.
+	 */
+	public int longestTitleStreak(Team team) {
+		return longestTitleStreak[indexOf(team)];
+	}
+
+	/**
+	 * amount of times a Stanley Cup was won right after winning the one before.
+	 */
+	public int backToBackTitles(Team team) {
+		return backToBackTitles[indexOf(team)];
+	}
+
+	/**
+	 * seasons in a row missing the playoffs up to the last season.
+	 */
+	public int rebuild(Team team) {
+		return rebuild[indexOf(team)];
+	}
+
+	/**
+	 * most seasons in a row missing the playoffs.
+	 */
+	public int longestRebuild(Team team) {
+		return longestRebuild[indexOf(team)];
+	}
+
+	/**
+	 * total amount of Stanley Cups.
+	 */
+	public int titles(Team team) {
+		return titles[indexOf(team)];
+	}
+
+	/**
+	 * position of the team with the highest value, the earliest team on ties.
+	 */
+	private static int best(int[] values) {
+		int best = 0;
+		for (int i = 1; i < values.length; i++) {
+			if (values[i] > values[best]) {
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * longest streaks in the league followed by the streaks of every team.
+	 */
+	public String toString() {
+		String str = "Streaks over " + seasons + " seasons\n^^^^^^^^^^^^^^^^^^^^^^^^^^^";
+		if (teams.isEmpty()) {
+			return str;
+		}
+		int i = best(longestPlayoffStreak);
+		str += "\nLongest playoff streak: " + teams.get(i).abbreviation() + " (" + longestPlayoffStreak[i] + ")";
+		i = best(longestTitleStreak);
+		str += "\nMost Stanley Cups in a row: " + teams.get(i).abbreviation() + " (" + longestTitleStreak[i] + ")";
+		i = best(longestDrought);
+		str += "\nLongest Stanley Cup drought: " + teams.get(i).abbreviation() + " (" + longestDrought[i] + ")";
+		i = best(longestRebuild);
+		str += "\nLongest rebuild: " + teams.get(i).abbreviation() + " (" + longestRebuild[i] + ")";
+		str += "\n\nTeam\tCups\tB2B\tPlayoff streak\tDrought\t\tRebuild";
+		for (i = 0; i < teams.size(); i++) {
+			str += "\n" + teams.get(i).abbreviation() + "\t" + titles[i] + "\t" + backToBackTitles[i] + "\t"
+					+ playoffStreak[i] + " (" + longestPlayoffStreak[i] + ")\t\t" + drought[i] + " ("
+					+ longestDrought[i] + ")\t\t" + rebuild[i] + " (" + longestRebuild[i] + ")";
+		}
+		return str;
+	}
+}
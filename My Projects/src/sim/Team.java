@@ -20,8 +20,16 @@ public class Team implements Comparable<Team> {
 	private boolean playoffs;
 	private int result;
 	private ArrayList<Game> schedule;
+	private int scheduledGames;
+	private boolean scheduled;
 	private ArrayList<Double> healthList = new ArrayList<>();
 	private ArrayList<Double> eloList = new ArrayList<>();;
+	// last known seeds, checked against the standings before they are used.
+	private int divisionSeedHint;
+	private int conferenceSeedHint;
+	private int leagueSeedHint;
+	private long standingsKey;
+	private Tiebreaker standingsKeyTiebreaker;
 
 	final static double mean = 6250;
 	final static double std = 750;
@@ -41,18 +49,16 @@ public class Team implements Comparable<Team> {
 		this(city, name, abbreviation, div, mean + std * new Random().nextGaussian());
 	}
 
-	private static double exponential(double lambda) {
+	private static double exponential(double lambda, Random rng) {
 		// creating random uniform(0,1)
-		Random rng = new Random();
 		double randomValue = rng.nextDouble();
 		// plugging random number into G(u) = -lambda * ln(1 - u).
 		return -lambda * Math.log(1 - randomValue);
 	}
 
-	private void proposedChanged(double val) {
-		Random rng = new Random();
+	private void proposedChanged(double val, Random rng) {
 		double par = val * rng.nextDouble();
-		double propChange = Math.sqrt(std) * exponential(par);
+		double propChange = Math.sqrt(std) * exponential(par, rng);
 		if (rng.nextBoolean()) {
 			propChange = -propChange;
 		}
@@ -71,43 +77,55 @@ public class Team implements Comparable<Team> {
 	}
 
 	protected void changeSkill() {
-		Random rng = new Random();
+		changeSkill(new Random());
+	}
+
+	/**
+	 * changes skill and health using the given random number generator.
+	 * 
+	 * @param rng - random number generator to use.
+	 */
+	protected void changeSkill(Random rng) {
 		int val = rng.nextInt(160);
 		if (val < 3) {
-			proposedChanged(16);
+			proposedChanged(16, rng);
 		} else if (val < 9) {
-			proposedChanged(8);
+			proposedChanged(8, rng);
 		} else if (val < 27) {
-			proposedChanged(4);
+			proposedChanged(4, rng);
 		} else if (val < 81) {
-			proposedChanged(2);
+			proposedChanged(2, rng);
 		} else {
-			proposedChanged(1);
+			proposedChanged(1, rng);
 		}
-		proposedHealthChange();
+		proposedHealthChange(rng);
 		if (!league().regularSeason().seasonOver() && league().regularSeason().seasonStarted()) {
 			healthList.add(healthRating);
 			eloList.add(skillLevel);
 		}
 	}
 
-	protected void offSeasonChangeSkill() {
-		Random rng = new Random();
+	/**
+	 * changes skill and health in the offseason using the given random number
+	 * generator.
+	 * 
+	 * @param rng - random number generator to use.
+	 */
+	protected void offSeasonChangeSkill(Random rng) {
 		int val = rng.nextInt(200);
 		if (val < 9) {
-			proposedChanged(8);
+			proposedChanged(8, rng);
 		} else if (val < 27) {
-			proposedChanged(4);
+			proposedChanged(4, rng);
 		} else if (val < 81) {
-			proposedChanged(2);
+			proposedChanged(2, rng);
 		} else {
-			proposedChanged(1);
+			proposedChanged(1, rng);
 		}
-		proposedHealthChange();
+		proposedHealthChange(rng);
 	}
 
-	private double valForOffseason() {
-		Random rng = new Random();
+	private double valForOffseason(Random rng) {
 		if (rng.nextInt(3) == 0) {
 			return -.25 + 2 * rng.nextDouble();
 		} else {
@@ -119,11 +137,10 @@ public class Team implements Comparable<Team> {
 		preskillLevel = skillLevel;
 	}
 
-	private void proposedHealthChange() {
-		Random rng = new Random();
+	private void proposedHealthChange(Random rng) {
 		double val;
 		if (!league().regularSeason().seasonStarted()) {
-			val = valForOffseason();
+			val = valForOffseason(rng);
 		} else if (rng.nextInt(3) == 0) {
 			val = -1 + 2 * rng.nextDouble();
 		} else {
@@ -159,20 +176,29 @@ public class Team implements Comparable<Team> {
 	 */
 	public Team(String city, String name, String abbreviation, Division div, double skillvalue)
 			throws IllegalArgumentException {
+		this(city, name, abbreviation, div, skillvalue, true);
+	}
+
+	/**
+	 * Making new team and setting its skill value. Checking the other teams can be
+	 * skipped when the name and abbreviation are already known to be unique, like
+	 * when a whole league is made from a checked topology or configuration.
+	 * 
+	 * @param city         - city the team is from.
+	 * @param name         - name of team.
+	 * @param abbreviation - (typically two or three letters) abbreviation.
+	 * @param div          - division this team belongs to.
+	 * @param skillvalue   - skill level.
+	 * @param checkNames   - false if the name and abbreviation are known to be
+	 *                     unique in the league.
+	 * @throws throws exception if team name or abbreviation already exists.
+	 */
+	protected Team(String city, String name, String abbreviation, Division div, double skillvalue,
+			boolean checkNames) throws IllegalArgumentException {
 		this.city = city;
 		division = div;
-		ArrayList<Team> teams = division.league().teams();
-		for (Team t : teams) {
-			if (t.name.equals(name) && t.abr.equals(abbreviation)) {
-				throw new IllegalArgumentException("A team with the name \"" + name + "\" and abbreviation \""
-						+ abbreviation + "\" already exists. Give this team another name and abbreviation.");
-			} else if (t.abr.equals(abbreviation)) {
-				throw new IllegalArgumentException("A team with the abbreviation \"" + abbreviation
-						+ "\" already exists. Give this team another abbreviation.");
-			} else if (t.name.equals(name)) {
-				throw new IllegalArgumentException(
-						"A team with the name \"" + name + "\" already exists. Give this team another name.");
-			}
+		if (checkNames) {
+			division.league().checkNames(null, name, abbreviation);
 		}
 		this.name = name;
 		abr = abbreviation;
@@ -183,6 +209,50 @@ public class Team implements Comparable<Team> {
 		result = 0;
 	}
 
+	/**
+	 * Puts this team back in a saved state.
+	 * 
+	 * @param skill          - skill level.
+	 * @param preseasonSkill - skill level at the start of the season.
+	 * @param health         - health rating.
+	 * @param wins           - regulation wins.
+	 * @param otWins         - overtime wins.
+	 * @param losses         - regulation losses.
+	 * @param otLosses       - overtime losses.
+	 * @param playoffs       - whether this team made the playoffs.
+	 * @param result         - season result.
+	 */
+	protected void restoreState(double skill, double preseasonSkill, double health, int wins, int otWins, int losses,
+			int otLosses, boolean playoffs, int result) {
+		skillLevel = skill;
+		preskillLevel = preseasonSkill;
+		healthRating = health;
+		this.wins = wins;
+		this.otWins = otWins;
+		this.losses = losses;
+		this.otLosses = otLosses;
+		this.playoffs = playoffs;
+		this.result = result;
+		standingsKeyTiebreaker = null;
+	}
+
+	/**
+	 * puts the skill level and health rating back to saved values.
+	 */
+	protected void restoreSkill(double skill, double health) {
+		skillLevel = skill;
+		healthRating = health;
+	}
+
+	/**
+	 * puts the season result and whether this team made the playoffs back to saved
+	 * values.
+	 */
+	protected void restoreResult(int result, boolean playoffs) {
+		this.playoffs = playoffs;
+		setSeasonResult(result);
+	}
+
 	/**
 	 * set the skill level to whatever you would like.
 	 * 
@@ -213,6 +283,7 @@ public class Team implements Comparable<Team> {
 	 */
 	public void changeCity(String newCity) {
 		city = newCity;
+		league().standingsChanged();
 	}
 
 	/**
@@ -226,9 +297,13 @@ public class Team implements Comparable<Team> {
 	 * change name.
 	 * 
 	 * @param newName - new name for this team.
+	 * @throws IllegalArgumentException - throws exception if another team in the
+	 *                                  league already has this name.
 	 */
-	public void changeName(String newName) {
+	public void changeName(String newName) throws IllegalArgumentException {
+		league().renameTeam(this, newName, abr);
 		name = newName;
+		league().standingsChanged();
 	}
 
 	/**
@@ -243,8 +318,11 @@ public class Team implements Comparable<Team> {
 	 * change abbreviation.
 	 * 
 	 * @param newAbr - new abbreviation.
+	 * @throws IllegalArgumentException - throws exception if another team in the
+	 *                                  league already has this abbreviation.
 	 */
-	public void changeAbbreviation(String newAbr) {
+	public void changeAbbreviation(String newAbr) throws IllegalArgumentException {
+		league().renameTeam(this, name, newAbr);
 		abr = newAbr;
 	}
 
@@ -306,15 +384,25 @@ public class Team implements Comparable<Team> {
 	}
 
 	/**
-	 * proportion of points acheived to amount of points possible.
+	 * proportion of points acheived to amount of points possible rounded to 3
+	 * decimal places.
 	 */
 	public double pointsPercentage() {
-		if (gamesPlayed() == 0) {
-			return 0.5;
+		return pointsPercentageThousandths() / 1000.0;
+	}
+
+	/**
+	 * Proportion of points acheived to amount of points possible in thousandths,
+	 * rounded half up. This is exact so it is what sorting and tiebreaking use.
+	 * 
+	 * @return number from 0 to 1000. 500 if no games have been played.
+	 */
+	public int pointsPercentageThousandths() {
+		int gamesPlayed = gamesPlayed();
+		if (gamesPlayed == 0) {
+			return 500;
 		}
-		double val = (double) points() / (2 * gamesPlayed());
-		String str = String.format("%.3f %n", val);
-		return Double.parseDouble(str);
+		return (1000 * points() + gamesPlayed) / (2 * gamesPlayed);
 	}
 
 	/**
@@ -351,42 +439,29 @@ public class Team implements Comparable<Team> {
 	}
 
 	/**
-	 * this team's record this season.
+	 * this team's record this season as of the league's published standings.
 	 */
 	public String record() {
-		return wins() + "-" + losses + "-" + otLosses;
+		return league().publishedStandings().record(this);
 	}
 
 	/**
-	 * z means that the team clinched the top seed in the conference. y means the
-	 * team clinched the top position in the division. x means the team clinched the
-	 * playoffs. out means the team has no chance to make the playoffs. Otherwise,
-	 * the outcome has not yet been determined.
+	 * true if this team has a regular season schedule.
 	 */
-	private String playoffStatusForStandings() {
-		if (outOfPlayoffs()) {
-			return " out";
-		} else if (clinchedPresidentsTrophy()) {
-			return "-z*";
-		} else if (clinchedConference()) {
-			return "-z";
-		} else if (clinchedDivision()) {
-			return "-y";
-		} else if (clinchedPlayoffs()) {
-			return "-x";
-		}
-		return "";
+	protected boolean hasSchedule() {
+		return scheduled;
 	}
 
 	/**
-	 * this team converted into string displaying its stats. Conference ranking,
-	 * city, name, record, points, points percentage, regulation wins, divisional
-	 * ranking, league ranking.
+	 * this team converted into string displaying its stats as of the league's
+	 * published standings. Conference ranking, city, name, record, points, points
+	 * percentage, regulation wins, divisional ranking, league ranking. The playoff
+	 * marker after the name is z if the team clinched the top seed in the
+	 * conference, y the top position in the division, x the playoffs and out if it
+	 * has no chance to make the playoffs.
 	 */
 	public String toString() {
-		return "[" + conference().seedingOfTeam(this) + "]\t(" + division.seedingOfTeam(this) + ")\t<"
-				+ league().seedingOfTeam(this) + ">\t" + city + " " + name + playoffStatusForStandings() + "\t"
-				+ record() + "\t" + points() + "\t" + pointsPercentage() + "\t" + wins + "\t" + endOfSeason()
+		return league().publishedStandings().standingsLine(this)
 				/*+ "\t" + preskillLevel + "\t" + skillLevel + "\t" + healthRating + "\t" + average(eloList) + "\t"
 				+ average(healthList) + "    " + "    " + awayRecord() + "   " + awayPoints() + "   " + homeRecord()
 				+ "   " + homePoints() + "   " + teamAgainstRating() + "   " + teamAgainstSeeding()*/;
@@ -405,7 +480,7 @@ public class Team implements Comparable<Team> {
 	 */
 	public double teamAgainstRating() {
 		double rating = 0;
-		for (Game game : schedule) {
+		for (Game game : games()) {
 			if (game.winner() == this) {
 				if (game.ot()) {
 					rating += Math.pow((double) game.loser().points() / 2.0, 2);
@@ -428,7 +503,7 @@ public class Team implements Comparable<Team> {
 	 */
 	public double teamAgainstSeeding() {
 		double rating = 0;
-		for (Game game : schedule) {
+		for (Game game : games()) {
 			if (game.winner() == this) {
 				if (game.ot()) {
 					rating += Math.pow((double) (league().size() + 1 - game.loser().leagueSeeding()) / 2.0, 2);
@@ -451,7 +526,7 @@ public class Team implements Comparable<Team> {
 	 * are out of contention, false otherwise.
 	 */
 	public boolean outOfPlayoffs() {
-		if (schedule == null) {
+		if (!scheduled) {
 			return false;
 		}
 		int playoffLineForConference = conference().amountOfPlayoffTeams();
@@ -464,9 +539,9 @@ public class Team implements Comparable<Team> {
 			}
 			return false;
 		}
-		int mostPossiblePoints = points() + 2 * (gamesRemaining());
+		int mostPossiblePoints = maxPossiblePoints();
 		int countTeams = 0;
-		for (Team t : conference().teams()) {
+		for (Team t : conference().liveTeams()) {
 			if (t.points() > mostPossiblePoints && t != t.division().leader()) {
 				countTeams++;
 			}
@@ -490,7 +565,7 @@ public class Team implements Comparable<Team> {
 		if (conference().size() < 2) {
 			return true;
 		}
-		if (schedule == null) {
+		if (!scheduled) {
 			return false;
 		}
 		if (league().regularSeason().seasonOver()) {
@@ -499,8 +574,8 @@ public class Team implements Comparable<Team> {
 			}
 			return false;
 		}
-		for (Team t : conference().teams()) {
-			if (this != t && t.points() + 2 * t.gamesRemaining() > points()) {
+		for (Team t : conference().liveTeams()) {
+			if (this != t && t.maxPossiblePoints() > points()) {
 				return false;
 			}
 		}
@@ -514,7 +589,7 @@ public class Team implements Comparable<Team> {
 		if (league().size() < 2) {
 			return true;
 		}
-		if (schedule == null) {
+		if (!scheduled) {
 			return false;
 		}
 		if (league().regularSeason().seasonOver()) {
@@ -523,8 +598,8 @@ public class Team implements Comparable<Team> {
 			}
 			return false;
 		}
-		for (Team t : league().teams()) {
-			if (this != t && t.points() + 2 * t.gamesRemaining() > points()) {
+		for (Team t : league().liveTeams()) {
+			if (this != t && t.maxPossiblePoints() > points()) {
 				return false;
 			}
 		}
@@ -541,7 +616,7 @@ public class Team implements Comparable<Team> {
 		if (division.size() < 2) {
 			return true;
 		}
-		if (schedule == null) {
+		if (!scheduled) {
 			return false;
 		}
 		if (league().regularSeason().seasonOver()) {
@@ -550,8 +625,8 @@ public class Team implements Comparable<Team> {
 			}
 			return false;
 		}
-		for (Team t : division().teams()) {
-			if (this != t && t.points() + 2 * t.gamesRemaining() > points()) {
+		for (Team t : division().liveTeams()) {
+			if (this != t && t.maxPossiblePoints() > points()) {
 				return false;
 			}
 		}
@@ -566,7 +641,7 @@ public class Team implements Comparable<Team> {
 		if (playoffLine >= conference().size()) {
 			return true;
 		}
-		if (schedule == null) {
+		if (!scheduled) {
 			return false;
 		}
 		if (playoffLine < conferenceSeeding()) {
@@ -579,8 +654,8 @@ public class Team implements Comparable<Team> {
 			return false;
 		}
 		int count = 0;
-		for (Team t : conference().teams()) {
-			if (t.points() + 2 * t.gamesRemaining() < points() && t != t.division().leader()) {
+		for (Team t : conference().liveTeams()) {
+			if (t.maxPossiblePoints() < points() && t != t.division().leader()) {
 				count++;
 			}
 		}
@@ -603,8 +678,11 @@ public class Team implements Comparable<Team> {
 	 * 
 	 * @param div - new division to go to.
 	 * @return true if change was successful, false if not.
+	 * @throws IllegalArgumentException - throws exception if the division is in
+	 *                                  another league that already has a team
+	 *                                  with this name or abbreviation.
 	 */
-	public boolean changeDivision(Division div) {
+	public boolean changeDivision(Division div) throws IllegalArgumentException {
 		if (league().seasonInSession()) {
 			return false;
 		}
@@ -630,7 +708,8 @@ public class Team implements Comparable<Team> {
 	}
 
 	/**
-	 * Comparable used to compare one team to another team.
+	 * Comparable used to compare one team to another team using the league's
+	 * tiebreaker steps.
 	 * 
 	 * @param o - other team being compared to.
 	 * @return positive number if this team is higher in the standings, negative if
@@ -639,27 +718,7 @@ public class Team implements Comparable<Team> {
 	 */
 	@Override
 	public int compareTo(Team o) {
-		if (this.points() == o.points()) {
-			if (this.compPointsPercentage(o) == 0) {
-				if (this.wins == o.wins) {
-					return this.otWins - o.otWins;
-				}
-				return this.wins - o.wins;
-			}
-			return this.compPointsPercentage(o);
-		}
-		return this.points() - o.points();
-	}
-
-	private int compPointsPercentage(Team o) {
-		double pointDifference = this.pointsPercentage() - o.pointsPercentage();
-		if (pointDifference > 0) {
-			return 1;
-		} else if (pointDifference < 0) {
-			return -1;
-		} else {
-			return 0;
-		}
+		return Long.compare(standingsKey(), o.standingsKey());
 	}
 
 	/**
@@ -670,6 +729,15 @@ public class Team implements Comparable<Team> {
 	 */
 	protected void setSeasonResult(int res) {
 		result = res;
+		league().standingsChanged();
+	}
+
+	/**
+	 * final result of season as a number. The amount of rounds played. -1 means
+	 * missed the playoffs, amount of rounds + 1 means they won.
+	 */
+	public int seasonResult() {
+		return result;
 	}
 
 	/**
@@ -677,12 +745,20 @@ public class Team implements Comparable<Team> {
 	 */
 	protected void incrementResult() {
 		result++;
+		league().standingsChanged();
 	}
 
 	/**
 	 * final result of season. The farthest this team got this year.
 	 */
 	public String endOfSeason() {
+		return endOfSeason(result);
+	}
+
+	/**
+	 * text for a season result.
+	 */
+	protected static String endOfSeason(int result) {
 		switch (result) {
 		case -1:
 			return "Missed Playoffs";
@@ -708,8 +784,12 @@ public class Team implements Comparable<Team> {
 		losses = 0;
 		otWins = 0;
 		otLosses = 0;
+		standingsKeyTiebreaker = null;
 		playoffs = false;
 		result = 0;
+		schedule = null;
+		scheduledGames = 0;
+		scheduled = false;
 		healthList.clear();
 		eloList.clear();
 	}
@@ -735,6 +815,39 @@ public class Team implements Comparable<Team> {
 		return league().seedingOfTeam(this);
 	}
 
+	/**
+	 * last known division seed, 0 if there is none.
+	 */
+	protected int divisionSeedHint() {
+		return divisionSeedHint;
+	}
+
+	protected void setDivisionSeedHint(int seed) {
+		divisionSeedHint = seed;
+	}
+
+	/**
+	 * last known conference seed, 0 if there is none.
+	 */
+	protected int conferenceSeedHint() {
+		return conferenceSeedHint;
+	}
+
+	protected void setConferenceSeedHint(int seed) {
+		conferenceSeedHint = seed;
+	}
+
+	/**
+	 * last known league seed, 0 if there is none.
+	 */
+	protected int leagueSeedHint() {
+		return leagueSeedHint;
+	}
+
+	protected void setLeagueSeedHint(int seed) {
+		leagueSeedHint = seed;
+	}
+
 	/**
 	 * Returns the result to determine whether this team won or lost.
 	 * 
@@ -750,6 +863,20 @@ public class Team implements Comparable<Team> {
 		} else {
 			losses++;
 		}
+		standingsKeyTiebreaker = null;
+	}
+
+	/**
+	 * Key of this team for the league's tiebreaker. It is only made again after
+	 * the record changes or the league uses a different tiebreaker.
+	 */
+	protected long standingsKey() {
+		Tiebreaker tiebreaker = league().tiebreaker();
+		if (standingsKeyTiebreaker != tiebreaker) {
+			standingsKey = tiebreaker.key(this);
+			standingsKeyTiebreaker = tiebreaker;
+		}
+		return standingsKey;
 	}
 
 	/**
@@ -768,10 +895,13 @@ public class Team implements Comparable<Team> {
 	}
 
 	/**
-	 * all regular season games for this team this season.
+	 * all regular season games for this team this season. The games are only found
+	 * the first time this is called each season.
 	 */
 	public ArrayList<Game> games() {
-		schedule = regularSeason().gamesForTeam(this);
+		if (schedule == null) {
+			schedule = regularSeason().gamesForTeam(this);
+		}
 		return schedule;
 	}
 
@@ -783,6 +913,7 @@ public class Team implements Comparable<Team> {
 			str += "_";
 		}
 		str += "\n";
+		ArrayList<Game> schedule = games();
 		for (int i = 0; i < schedule.size(); i++) {
 			str += "\n" + schedule.get(i).toString();
 		}
@@ -800,11 +931,8 @@ public class Team implements Comparable<Team> {
 	 * all regular season home games for this team.
 	 */
 	public ArrayList<Game> homeGames() {
-		if (schedule == null) {
-			games();
-		}
 		ArrayList<Game> homeGames = new ArrayList<>();
-		for (Game g : schedule) {
+		for (Game g : games()) {
 			if (this == g.home()) {
 				homeGames.add(g);
 			}
@@ -892,11 +1020,8 @@ public class Team implements Comparable<Team> {
 	 * all regular season away games for this team.
 	 */
 	public ArrayList<Game> awayGames() {
-		if (schedule == null) {
-			games();
-		}
 		ArrayList<Game> awayGames = new ArrayList<>();
-		for (Game g : schedule) {
+		for (Game g : games()) {
 			if (this == g.away()) {
 				awayGames.add(g);
 			}
@@ -942,21 +1067,36 @@ public class Team implements Comparable<Team> {
 		return str;
 	}
 
+	/**
+	 * Sets the amount of games this team has in the regular season. This is done
+	 * by the regular season when it starts.
+	 * 
+	 * @param games - amount of games scheduled.
+	 */
+	protected void setScheduledGames(int games) {
+		scheduledGames = games;
+		scheduled = true;
+	}
+
 	/**
 	 * total amount of games this team has for the season.
 	 */
 	public int totalAmountOfGames() {
-		if (schedule == null) {
-			return 0;
-		}
-		return schedule.size();
+		return scheduledGames;
 	}
 
 	/**
 	 * amount of games remaining until the end of the season.
 	 */
 	public int gamesRemaining() {
-		return totalAmountOfGames() - gamesPlayed();
+		return scheduledGames - gamesPlayed();
+	}
+
+	/**
+	 * most points this team can finish the season with.
+	 */
+	public int maxPossiblePoints() {
+		return points() + 2 * gamesRemaining();
 	}
 
 	private static class Gaussian {
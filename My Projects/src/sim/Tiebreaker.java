@@ -0,0 +1,218 @@
+package sim;
+
+import java.util.ArrayList;
+
+public class Tiebreaker {
+
+	/**
+	 * One step of the tiebreaker. Each step is a whole number for each team that
+	 * is packed into its own range of bits of a key, with the first step in the
+	 * highest bits. Higher is better for every step.
+	 */
+	public enum Stage {
+		/**
+		 * total points.
+		 */
+		POINTS(20) {
+			@Override
+			protected long value(Team team) {
+				return team.points();
+			}
+		},
+		/**
+		 * points percentage in thousandths.
+		 */
+		POINTS_PERCENTAGE(10) {
+			@Override
+			protected long value(Team team) {
+				return team.pointsPercentageThousandths();
+			}
+		},
+		/**
+		 * regulation wins (RW).
+		 */
+		REGULATION_WINS(16) {
+			@Override
+			protected long value(Team team) {
+				return team.regulationWins();
+			}
+		},
+		/**
+		 * regulation and overtime wins (ROW). There are no shootouts so this is every
+		 * win.
+		 */
+		REGULATION_AND_OVERTIME_WINS(16) {
+			@Override
+			protected long value(Team team) {
+				return team.wins();
+			}
+		},
+		/**
+		 * fewer games played is better.
+		 */
+		FEWEST_GAMES_PLAYED(16) {
+			@Override
+			protected long value(Team team) {
+				return (1L << 16) - 1 - team.gamesPlayed();
+			}
+		};
+
+		private final int bits;
+
+		private Stage(int bits) {
+			this.bits = bits;
+		}
+
+		/**
+		 * amount of bits this step takes up in a key.
+		 */
+		public int bits() {
+			return bits;
+		}
+
+		protected abstract long value(Team team);
+	}
+
+	private static final Tiebreaker standard = new Tiebreaker(Stage.POINTS, Stage.POINTS_PERCENTAGE,
+			Stage.REGULATION_WINS, Stage.REGULATION_AND_OVERTIME_WINS);
+
+	private final Stage[] stages;
+
+	/**
+	 * Makes a tiebreaker out of steps in order. Teams that are still tied after
+	 * every step go to head to head and then a random draw in the standings.
+	 * 
+	 * @param stages - steps in the order they are used.
+	 * @throws IllegalArgumentException - throws exception if the steps do not fit
+	 *                                  in 63 bits.
+	 */
+	public Tiebreaker(Stage... stages) throws IllegalArgumentException {
+		int bits = 0;
+		for (Stage stage : stages) {
+			bits += stage.bits();
+		}
+		if (bits > 63) {
+			throw new IllegalArgumentException("The tiebreaker steps use " + bits + " bits but only 63 fit in a key.");
+		}
+		this.stages = stages.clone();
+	}
+
+	/**
+	 * points, points percentage, regulation wins and then regulation and overtime
+	 * wins.
+	 */
+	public static Tiebreaker standard() {
+		return standard;
+	}
+
+	/**
+	 * Every step for a team packed into one number. A team with a higher key is
+	 * higher in the standings and teams with the same key are tied through every
+	 * step. Values too big for their step are capped.
+	 * 
+	 * @param team - team to make the key for.
+	 */
+	public long key(Team team) {
+		long key = 0;
+		for (Stage stage : stages) {
+			long max = (1L << stage.bits()) - 1;
+			key = (key << stage.bits()) | Math.max(0, Math.min(stage.value(team), max));
+		}
+		return key;
+	}
+
+	/**
+	 * Compares two teams through every step. Teams of a league using this
+	 * tiebreaker reuse their saved keys, so sorting with this only makes each key
+	 * once.
+	 * 
+	 * @return positive number if t1 is higher in the standings, negative if it is
+	 *         lower, 0 if they are tied.
+	 */
+	public int compare(Team t1, Team t2) {
+		return Long.compare(keyOf(t1), keyOf(t2));
+	}
+
+	/**
+	 * saved key of a team if its league uses this tiebreaker, a new key otherwise.
+	 */
+	private long keyOf(Team team) {
+		if (team.league().tiebreaker() == this) {
+			return team.standingsKey();
+		}
+		return key(team);
+	}
+
+	/**
+	 * Sorts teams by their keys. Each key is only computed once and the sort is
+	 * done on arrays of keys and positions instead of comparing teams. Teams with
+	 * the same key stay in the order they were in.
+	 * 
+	 * @param teams        - teams to sort.
+	 * @param highestFirst - true to put the team with the highest key first, false
+	 *                     to put it last.
+	 * @return key of each team in the new order of the list.
+	 */
+	protected long[] sort(ArrayList<Team> teams, boolean highestFirst) {
+		int n = teams.size();
+		long[] keys = new long[n];
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = keyOf(teams.get(i));
+			if (highestFirst) {
+				keys[i] = ~keys[i];
+			}
+			order[i] = i;
+		}
+		int[] buffer = new int[n];
+		for (int width = 1; width < n; width *= 2) {
+			for (int lo = 0; lo < n - width; lo += 2 * width) {
+				merge(keys, order, buffer, lo, lo + width, Math.min(lo + 2 * width, n));
+			}
+		}
+		Team[] sorted = new Team[n];
+		long[] sortedKeys = new long[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = teams.get(order[i]);
+			sortedKeys[i] = highestFirst ? ~keys[order[i]] : keys[order[i]];
+		}
+		for (int i = 0; i < n; i++) {
+			teams.set(i, sorted[i]);
+		}
+		return sortedKeys;
+	}
+
+	/**
+	 * merges two sorted runs of positions next to each other, taking from the left
+	 * run on equal keys so the sort is stable.
+	 */
+	private static void merge(long[] keys, int[] order, int[] buffer, int lo, int mid, int hi) {
+		if (keys[order[mid - 1]] <= keys[order[mid]]) {
+			return;
+		}
+		System.arraycopy(order, lo, buffer, lo, hi - lo);
+		int i = lo;
+		int j = mid;
+		for (int k = lo; k < hi; k++) {
+			if (j >= hi || (i < mid && keys[buffer[i]] <= keys[buffer[j]])) {
+				order[k] = buffer[i++];
+			} else {
+				order[k] = buffer[j++];
+			}
+		}
+	}
+
+	/**
+	 * names of the steps in order.
+	 */
+	public String toString() {
+		String str = "";
+		for (int i = 0; i < stages.length; i++) {
+			if (i > 0) {
+				str += ", ";
+			}
+			str += stages[i];
+		}
+		return str + ", HEAD_TO_HEAD";
+	}
+}